@@ -14,16 +14,29 @@ import studio.itsmy.itsmybot.listener.PlayerCommandListener;
 import studio.itsmy.itsmybot.listener.PlayerJoinListener;
 import studio.itsmy.itsmybot.listener.PlayerQuitListener;
 import studio.itsmy.itsmybot.service.LogService;
+import studio.itsmy.itsmybot.service.MainThreadService;
+import studio.itsmy.itsmybot.service.PlayerIndexService;
 import studio.itsmy.itsmybot.service.ReloadService;
+import studio.itsmy.itsmybot.service.StatsService;
 import studio.itsmy.itsmybot.util.PluginLogger;
 import studio.itsmy.itsmybot.util.TextFormatter;
+import studio.itsmy.itsmybot.ws.handler.PlaceholderCache;
+import studio.itsmy.itsmybot.ws.handler.PlaceholderClassifier;
+import studio.itsmy.itsmybot.ws.handler.PlaceholderFlights;
+import studio.itsmy.itsmybot.ws.handler.PlaceholderSubscriptions;
+import studio.itsmy.itsmybot.ws.handler.PlaceholderTemplates;
 import studio.itsmy.itsmybot.ws.handler.role.LuckPermsSyncManager;
+import studio.itsmy.itsmybot.ws.handler.role.RoleFingerprints;
+import studio.itsmy.itsmybot.ws.handler.role.RoleSyncBatcher;
+import studio.itsmy.itsmybot.ws.handler.role.RoleSyncDebouncer;
 import studio.itsmy.itsmybot.ws.WSClient;
+import studio.itsmy.itsmybot.ws.inbound.InboundRegistry;
 import net.kyori.adventure.platform.bukkit.BukkitAudiences;
 import net.luckperms.api.LuckPerms;
 import net.milkbowl.vault.permission.Permission;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.RegisteredServiceProvider;
+import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
 
 /**
@@ -50,6 +63,36 @@ public class ItsMyBotPlugin extends JavaPlugin {
     /** Centralized logging service (WS-based). */
     private LogService logService;
 
+    /** Tick-budgeted queue of work for the server thread. */
+    private MainThreadService mainThreadService;
+
+    /** In-memory index of the players known by the server. */
+    private PlayerIndexService playerIndexService;
+
+    /** Cache of resolved placeholder values. */
+    private final PlaceholderCache placeholderCache = new PlaceholderCache();
+
+    /** Classification of placeholders safe to resolve outside the server thread. */
+    private final PlaceholderClassifier placeholderClassifier = new PlaceholderClassifier();
+
+    /** Compiled placeholder strings. */
+    private final PlaceholderTemplates placeholderTemplates = new PlaceholderTemplates();
+
+    /** Placeholder resolutions in flight, shared by identical requests. */
+    private final PlaceholderFlights placeholderFlights = new PlaceholderFlights();
+
+    /** Placeholder subscriptions of the bot. */
+    private PlaceholderSubscriptions placeholderSubscriptions;
+
+    /** Batches the role syncs of joining players. */
+    private RoleSyncBatcher roleSyncBatcher;
+
+    /** Collapses bursts of local group changes into one role sync update. */
+    private RoleSyncDebouncer roleSyncDebouncer;
+
+    /** Fingerprints of the groups last acknowledged by the bot. */
+    private RoleFingerprints roleFingerprints;
+
     /** Vault Permission provider (used for group sync). */
     private Permission permission;
 
@@ -66,11 +109,16 @@ public class ItsMyBotPlugin extends JavaPlugin {
      * <ol>
      *   <li>Initialize Adventure audiences and {@link TextFormatter}.</li>
      *   <li>Load config and messages files via {@link FilesManager}.</li>
+     *   <li>Start the {@link MainThreadService}.</li>
      *   <li>Reload runtime config and WS client via {@link ReloadService}.</li>
-     *   <li>Setup Vault permissions (if present).</li>
+     *   <li>Expose the {@link InboundRegistry} to other plugins.</li>
+     *   <li>Start warming the {@link PlayerIndexService}.</li>
+     *   <li>Setup Vault permissions (if present), load the {@link RoleFingerprints}, start the
+     *       {@link RoleSyncBatcher} and {@link RoleSyncDebouncer}.</li>
      *   <li>Register commands and tab completers.</li>
      *   <li>Register player listeners (join/quit/command).</li>
      *   <li>Hook LuckPerms and subscribe to node mutations (if available).</li>
+     *   <li>Start the {@link PlaceholderSubscriptions} evaluation.</li>
      *   <li>Start {@link LogService} and log server start.</li>
      * </ol>
      */
@@ -84,10 +132,18 @@ public class ItsMyBotPlugin extends JavaPlugin {
         final FilesManager filesManager = new FilesManager(this);
         filesManager.load();
 
+        mainThreadService = new MainThreadService(this);
+
         final ReloadService reloadService = new ReloadService(this);
         reloadService.reload();
+        getServer().getServicesManager().register(InboundRegistry.class, getWSClient().getInboundRegistry(), this, ServicePriority.Normal);
+
+        playerIndexService = new PlayerIndexService(this);
 
         setupPermissions();
+        roleFingerprints = new RoleFingerprints(this);
+        roleSyncBatcher = new RoleSyncBatcher(this);
+        roleSyncDebouncer = new RoleSyncDebouncer(this);
 
         // Command registry and commands wiring
         final CommandRegistry commandRegistry = new CommandRegistry();
@@ -100,12 +156,13 @@ public class ItsMyBotPlugin extends JavaPlugin {
         final UnlinkCommandHandler unlinkCommandHandler = new UnlinkCommandHandler(this);
         getCommand("unlink").setExecutor(new UnlinkCommand(unlinkCommandHandler));
 
-        getCommand("discord").setExecutor(new DiscordCommand(commandRegistry, reloadService));
+        getCommand("discord").setExecutor(new DiscordCommand(commandRegistry, reloadService, new StatsService(this)));
         getCommand("discord").setTabCompleter(new DiscordCompleter(commandRegistry));
 
         registerListeners();
         hookLuckPerms();
 
+        this.placeholderSubscriptions = new PlaceholderSubscriptions(this);
         this.logService = new LogService(this);
         logService.logServerStart();
 
@@ -153,18 +210,27 @@ public class ItsMyBotPlugin extends JavaPlugin {
     /**
      * Plugin disable hook.
      * <p>
-     * Sends a server stop log, then disconnects and shuts down the WebSocket client
+     * Sends a server stop log, closes the log spool, then disconnects and shuts down the WebSocket client
      * to release threads and network resources.
      */
     @Override
     public void onDisable() {
         PluginLogger.info("Plugin is shutting down...");
         logService.logServerStop();
+        logService.shutdown();
+        placeholderSubscriptions.shutdown();
+        roleSyncBatcher.shutdown();
+        roleSyncDebouncer.shutdown();
+        roleFingerprints.shutdown();
+        if (lpSyncManager != null) {
+            lpSyncManager.shutdown();
+        }
 
         if (wsClient != null) {
             wsClient.disconnect();
             wsClient.shutdown();
         }
+        mainThreadService.shutdown();
     }
 
     /**
@@ -183,6 +249,96 @@ public class ItsMyBotPlugin extends JavaPlugin {
         getServer().getScheduler().runTaskLater(this, () -> wsClient.connect(), 40L);
     }
 
+    /**
+     * Returns the queue of work for the server thread.
+     *
+     * @return the main thread service
+     */
+    public MainThreadService getMainThreadService() {
+        return mainThreadService;
+    }
+
+    /**
+     * Returns the index of the players known by the server.
+     *
+     * @return the player index
+     */
+    public PlayerIndexService getPlayerIndexService() {
+        return playerIndexService;
+    }
+
+    /**
+     * Returns the cache of resolved placeholder values.
+     *
+     * @return the placeholder cache
+     */
+    public PlaceholderCache getPlaceholderCache() {
+        return placeholderCache;
+    }
+
+    /**
+     * Returns the classification of placeholders safe to resolve outside the server thread.
+     *
+     * @return the placeholder classifier
+     */
+    public PlaceholderClassifier getPlaceholderClassifier() {
+        return placeholderClassifier;
+    }
+
+    /**
+     * Returns the cache of compiled placeholder strings.
+     *
+     * @return the placeholder templates
+     */
+    public PlaceholderTemplates getPlaceholderTemplates() {
+        return placeholderTemplates;
+    }
+
+    /**
+     * Returns the placeholder resolutions in flight.
+     *
+     * @return the placeholder flights
+     */
+    public PlaceholderFlights getPlaceholderFlights() {
+        return placeholderFlights;
+    }
+
+    /**
+     * Returns the placeholder subscriptions of the bot.
+     *
+     * @return the subscriptions, or {@code null} before the plugin is enabled
+     */
+    public PlaceholderSubscriptions getPlaceholderSubscriptions() {
+        return placeholderSubscriptions;
+    }
+
+    /**
+     * Returns the batcher of join-triggered role syncs.
+     *
+     * @return the role sync batcher, or {@code null} before the plugin is enabled
+     */
+    public RoleSyncBatcher getRoleSyncBatcher() {
+        return roleSyncBatcher;
+    }
+
+    /**
+     * Returns the debouncer of role sync updates.
+     *
+     * @return the role sync debouncer, or {@code null} before the plugin is enabled
+     */
+    public RoleSyncDebouncer getRoleSyncDebouncer() {
+        return roleSyncDebouncer;
+    }
+
+    /**
+     * Returns the fingerprints of the groups last acknowledged by the bot.
+     *
+     * @return the role fingerprints, or {@code null} before the plugin is enabled
+     */
+    public RoleFingerprints getRoleFingerprints() {
+        return roleFingerprints;
+    }
+
     /**
      * Returns the (lazy) WebSocket client instance.
      * <p>
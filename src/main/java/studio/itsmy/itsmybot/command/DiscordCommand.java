@@ -4,6 +4,7 @@ import studio.itsmy.itsmybot.command.handler.CommandHandler;
 import studio.itsmy.itsmybot.enumeration.Messages;
 import studio.itsmy.itsmybot.enumeration.Permissions;
 import studio.itsmy.itsmybot.service.ReloadService;
+import studio.itsmy.itsmybot.service.StatsService;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -16,6 +17,7 @@ import org.bukkit.entity.Player;
  * <ul>
  *   <li>Permission-checking for {@link Permissions#USE} and subcommands.</li>
  *   <li>Handles special {@code reload} subcommand (requires {@link Permissions#RELOAD}).</li>
+ *   <li>Handles special {@code stats} subcommand (requires {@link Permissions#STATS}).</li>
  *   <li>Delegates to {@link CommandRegistry} for custom subcommands.</li>
  *   <li>Displays {@link Messages#JOIN_DISCORD} if no arguments are provided.</li>
  * </ul>
@@ -24,16 +26,19 @@ public class DiscordCommand extends CommandMessage implements CommandExecutor {
 
     private final CommandRegistry commandRegistry;
     private final ReloadService reloadService;
+    private final StatsService statsService;
 
     /**
      * Creates a new {@code /discord} executor.
      *
      * @param commandRegistry registry for resolving subcommands
      * @param reloadService   reload service for live reloading
+     * @param statsService    stats service for the {@code stats} subcommand
      */
-    public DiscordCommand(CommandRegistry commandRegistry, ReloadService reloadService) {
+    public DiscordCommand(CommandRegistry commandRegistry, ReloadService reloadService, StatsService statsService) {
         this.commandRegistry = commandRegistry;
         this.reloadService = reloadService;
+        this.statsService = statsService;
     }
 
     /**
@@ -63,6 +68,16 @@ public class DiscordCommand extends CommandMessage implements CommandExecutor {
             return true;
         }
 
+        // Handle stats command
+        if (args.length >= 1 && "stats".equalsIgnoreCase(args[0])) {
+            if (sender.hasPermission(Permissions.STATS.get())) {
+                statsService.send(sender);
+            } else {
+                noPermission(sender);
+            }
+            return true;
+        }
+
         // Only players may use other subcommands
         if (!(sender instanceof Player)) {
             playerOnly(sender);
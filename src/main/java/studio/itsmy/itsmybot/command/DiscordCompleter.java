@@ -59,6 +59,11 @@ public class DiscordCompleter implements TabCompleter {
                 suggestions.add("reload");
             }
 
+            // Include stats if permitted
+            if (sender.hasPermission(Permissions.STATS.get())) {
+                suggestions.add("stats");
+            }
+
             // Add subcommands from registry if sender has permission
             for (CommandHandlerBase cmd : commandRegistry.getCommandHandlers()) {
                 if (!sender.hasPermission(cmd.getPermission())) continue;
@@ -1,9 +1,24 @@
 package studio.itsmy.itsmybot.configuration;
 
+import studio.itsmy.itsmybot.configuration.advanced.OutboundConfig;
+import studio.itsmy.itsmybot.configuration.advanced.ReconnectConfig;
+import studio.itsmy.itsmybot.configuration.advanced.RequestConfig;
+import studio.itsmy.itsmybot.configuration.advanced.SessionConfig;
+import studio.itsmy.itsmybot.configuration.advanced.CompressionConfig;
+import studio.itsmy.itsmybot.configuration.advanced.InboundConfig;
+import studio.itsmy.itsmybot.configuration.advanced.MainThreadConfig;
+import studio.itsmy.itsmybot.configuration.advanced.PlaceholderAsyncConfig;
+import studio.itsmy.itsmybot.configuration.advanced.PlaceholderCacheConfig;
+import studio.itsmy.itsmybot.configuration.advanced.PlaceholderSubscriptionConfig;
+import studio.itsmy.itsmybot.configuration.advanced.PlayerIndexConfig;
+import studio.itsmy.itsmybot.configuration.advanced.RoleSyncConfig;
+import studio.itsmy.itsmybot.configuration.advanced.LogBatchConfig;
+import studio.itsmy.itsmybot.configuration.advanced.SpoolConfig;
 import studio.itsmy.itsmybot.configuration.essential.Prefix;
 import studio.itsmy.itsmybot.configuration.essential.WSConfig;
 import org.bukkit.configuration.file.FileConfiguration;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -22,8 +37,10 @@ public class ConfigFactory {
 
     /**
      * Holds all registered configuration modules mapped by their class.
+     * <p>
+     * Replaced as a whole once loaded, so that other threads never see a partially loaded set.
      */
-    private static final Map<Class<? extends IConfigurable>, IConfigurable> configs = new LinkedHashMap<>();
+    private static volatile Map<Class<? extends IConfigurable>, IConfigurable> configs = Collections.emptyMap();
 
     /**
      * Registers and loads all configuration modules.
@@ -31,12 +48,27 @@ public class ConfigFactory {
      * @param config the {@link FileConfiguration} from which to load data
      */
     public static void registerConfigs(FileConfiguration config) {
-        configs.clear();
+        final Map<Class<? extends IConfigurable>, IConfigurable> configs = new LinkedHashMap<>();
 
         configs.put(WSConfig.class, new WSConfig(config));
         configs.put(Prefix.class, new Prefix(config));
+        configs.put(OutboundConfig.class, new OutboundConfig(config));
+        configs.put(RequestConfig.class, new RequestConfig(config));
+        configs.put(ReconnectConfig.class, new ReconnectConfig(config));
+        configs.put(SessionConfig.class, new SessionConfig(config));
+        configs.put(SpoolConfig.class, new SpoolConfig(config));
+        configs.put(LogBatchConfig.class, new LogBatchConfig(config));
+        configs.put(CompressionConfig.class, new CompressionConfig(config));
+        configs.put(InboundConfig.class, new InboundConfig(config));
+        configs.put(MainThreadConfig.class, new MainThreadConfig(config));
+        configs.put(PlaceholderCacheConfig.class, new PlaceholderCacheConfig(config));
+        configs.put(PlaceholderAsyncConfig.class, new PlaceholderAsyncConfig(config));
+        configs.put(PlaceholderSubscriptionConfig.class, new PlaceholderSubscriptionConfig(config));
+        configs.put(PlayerIndexConfig.class, new PlayerIndexConfig(config));
+        configs.put(RoleSyncConfig.class, new RoleSyncConfig(config));
 
         configs.values().forEach(IConfigurable::load);
+        ConfigFactory.configs = Collections.unmodifiableMap(configs);
     }
 
     /**
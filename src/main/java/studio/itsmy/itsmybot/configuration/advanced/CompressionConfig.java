@@ -0,0 +1,93 @@
+package studio.itsmy.itsmybot.configuration.advanced;
+
+import studio.itsmy.itsmybot.configuration.ConfigFactory;
+import studio.itsmy.itsmybot.configuration.IConfigurable;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+/**
+ * Handles the payload compression settings of the WebSocket link.
+ *
+ * <p>This class loads the optional {@code compression} section of {@code config.yml}.
+ * Compression is only requested when enabled, and only used if the bot accepts it during authentication.
+ */
+public class CompressionConfig implements IConfigurable {
+
+    private final FileConfiguration config;
+
+    private boolean enabled;
+    private int level;
+    private int minBytes;
+    private int maxInflatedBytes;
+
+    /**
+     * Creates a new {@code CompressionConfig} loader.
+     *
+     * @param config the {@link FileConfiguration} to read from
+     */
+    public CompressionConfig(FileConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads compression values from the {@code compression} section, applying defaults when absent.
+     */
+    @Override
+    public void load() {
+        enabled = false;
+        level = 6;
+        minBytes = 256;
+        maxInflatedBytes = 8 * 1024 * 1024;
+
+        final ConfigurationSection section = config.getConfigurationSection("compression");
+        if (section == null) return;
+
+        enabled = section.getBoolean("enabled", enabled);
+        level = Math.max(1, Math.min(9, section.getInt("level", level)));
+        minBytes = Math.max(0, section.getInt("min_bytes", minBytes));
+        maxInflatedBytes = Math.max(1024, section.getInt("max_inflated_bytes", maxInflatedBytes));
+    }
+
+    /**
+     * Returns the singleton {@code CompressionConfig} instance managed by {@link ConfigFactory}.
+     */
+    private static CompressionConfig getInstance() {
+        return ConfigFactory.getConfig(CompressionConfig.class);
+    }
+
+    /**
+     * Checks whether compression is requested during authentication.
+     *
+     * @return {@code true} if enabled (default: {@code false})
+     */
+    public static boolean isEnabled() {
+        return getInstance().enabled;
+    }
+
+    /**
+     * Gets the deflate compression level.
+     *
+     * @return the level, from 1 (fastest) to 9 (smallest) (default: {@code 6})
+     */
+    public static int getLevel() {
+        return getInstance().level;
+    }
+
+    /**
+     * Gets the size under which frames are sent uncompressed.
+     *
+     * @return the size in bytes (default: {@code 256})
+     */
+    public static int getMinBytes() {
+        return getInstance().minBytes;
+    }
+
+    /**
+     * Gets the maximum size of an inbound frame once inflated; larger frames are rejected.
+     *
+     * @return the size in bytes (default: {@code 8388608})
+     */
+    public static int getMaxInflatedBytes() {
+        return getInstance().maxInflatedBytes;
+    }
+}
@@ -0,0 +1,93 @@
+package studio.itsmy.itsmybot.configuration.advanced;
+
+import studio.itsmy.itsmybot.configuration.ConfigFactory;
+import studio.itsmy.itsmybot.configuration.IConfigurable;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+/**
+ * Handles the settings of the inbound message handlers.
+ *
+ * <p>This class loads the optional {@code inbound} section of {@code config.yml}.
+ * Executor settings are read when the WebSocket client is created.
+ */
+public class InboundConfig implements IConfigurable {
+
+    private final FileConfiguration config;
+
+    private boolean virtualThreads;
+    private int threads;
+    private int maxPending;
+    private int maxBacklog;
+
+    /**
+     * Creates a new {@code InboundConfig} loader.
+     *
+     * @param config the {@link FileConfiguration} to read from
+     */
+    public InboundConfig(FileConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads inbound values from the {@code inbound} section, applying defaults when absent.
+     */
+    @Override
+    public void load() {
+        virtualThreads = true;
+        threads = 4;
+        maxPending = 4096;
+        maxBacklog = 1024;
+
+        final ConfigurationSection section = config.getConfigurationSection("inbound");
+        if (section == null) return;
+
+        virtualThreads = section.getBoolean("virtual_threads", virtualThreads);
+        threads = Math.max(1, section.getInt("threads", threads));
+        maxPending = Math.max(16, section.getInt("max_pending", maxPending));
+        maxBacklog = Math.max(1, section.getInt("max_backlog", maxBacklog));
+    }
+
+    /**
+     * Returns the singleton {@code InboundConfig} instance managed by {@link ConfigFactory}.
+     */
+    private static InboundConfig getInstance() {
+        return ConfigFactory.getConfig(InboundConfig.class);
+    }
+
+    /**
+     * Checks whether handlers run on virtual threads when the server runs on Java 21 or newer.
+     *
+     * @return {@code true} to use virtual threads (default: {@code true})
+     */
+    public static boolean isVirtualThreads() {
+        return getInstance().virtualThreads;
+    }
+
+    /**
+     * Gets the number of handler threads when virtual threads are unavailable.
+     *
+     * @return the pool size (default: {@code 4})
+     */
+    public static int getThreads() {
+        return getInstance().threads;
+    }
+
+    /**
+     * Gets the maximum number of handler tasks queued or running at once, all types combined.
+     *
+     * @return the limit (default: {@code 4096})
+     */
+    public static int getMaxPending() {
+        return getInstance().maxPending;
+    }
+
+    /**
+     * Gets the maximum number of messages of one type waiting for a concurrency slot.
+     *
+     * @return the limit (default: {@code 1024})
+     */
+    public static int getMaxBacklog() {
+        return getInstance().maxBacklog;
+    }
+}
@@ -0,0 +1,93 @@
+package studio.itsmy.itsmybot.configuration.advanced;
+
+import studio.itsmy.itsmybot.configuration.ConfigFactory;
+import studio.itsmy.itsmybot.configuration.IConfigurable;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+/**
+ * Handles the log batching settings ({@code LOG_BATCH} frames).
+ *
+ * <p>This class loads the optional {@code log_batch} section of {@code config.yml}.
+ * Batching is disabled by default since it requires bot-side support.
+ */
+public class LogBatchConfig implements IConfigurable {
+
+    private final FileConfiguration config;
+
+    private boolean enabled;
+    private int maxEvents;
+    private int maxBytes;
+    private long maxDelayMs;
+
+    /**
+     * Creates a new {@code LogBatchConfig} loader.
+     *
+     * @param config the {@link FileConfiguration} to read from
+     */
+    public LogBatchConfig(FileConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads batching values from the {@code log_batch} section, applying defaults when absent.
+     */
+    @Override
+    public void load() {
+        enabled = false;
+        maxEvents = 100;
+        maxBytes = 64 * 1024;
+        maxDelayMs = 500;
+
+        final ConfigurationSection section = config.getConfigurationSection("log_batch");
+        if (section == null) return;
+
+        enabled = section.getBoolean("enabled", enabled);
+        maxEvents = Math.max(1, section.getInt("max_events", maxEvents));
+        maxBytes = Math.max(1024, section.getInt("max_bytes", maxBytes));
+        maxDelayMs = Math.max(50, section.getLong("max_delay_ms", maxDelayMs));
+    }
+
+    /**
+     * Returns the singleton {@code LogBatchConfig} instance managed by {@link ConfigFactory}.
+     */
+    private static LogBatchConfig getInstance() {
+        return ConfigFactory.getConfig(LogBatchConfig.class);
+    }
+
+    /**
+     * Checks whether log events are grouped into {@code LOG_BATCH} frames.
+     *
+     * @return {@code true} if enabled (default: {@code false})
+     */
+    public static boolean isEnabled() {
+        return getInstance().enabled;
+    }
+
+    /**
+     * Gets the number of events that triggers a flush.
+     *
+     * @return the event count (default: {@code 100})
+     */
+    public static int getMaxEvents() {
+        return getInstance().maxEvents;
+    }
+
+    /**
+     * Gets the serialized size that triggers a flush.
+     *
+     * @return the size in bytes (default: 64 KiB)
+     */
+    public static int getMaxBytes() {
+        return getInstance().maxBytes;
+    }
+
+    /**
+     * Gets the maximum time an event waits in the batch.
+     *
+     * @return the delay in milliseconds (default: {@code 500})
+     */
+    public static long getMaxDelayMs() {
+        return getInstance().maxDelayMs;
+    }
+}
@@ -0,0 +1,69 @@
+package studio.itsmy.itsmybot.configuration.advanced;
+
+import studio.itsmy.itsmybot.configuration.ConfigFactory;
+import studio.itsmy.itsmybot.configuration.IConfigurable;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+/**
+ * Handles the settings of the work handed over to the server thread.
+ *
+ * <p>This class loads the optional {@code main_thread} section of {@code config.yml}.
+ */
+public class MainThreadConfig implements IConfigurable {
+
+    private final FileConfiguration config;
+
+    private long budgetNanos;
+    private int maxQueued;
+
+    /**
+     * Creates a new {@code MainThreadConfig} loader.
+     *
+     * @param config the {@link FileConfiguration} to read from
+     */
+    public MainThreadConfig(FileConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads main thread values from the {@code main_thread} section, applying defaults when absent.
+     */
+    @Override
+    public void load() {
+        double budgetMs = 2.0;
+        maxQueued = 50000;
+
+        final ConfigurationSection section = config.getConfigurationSection("main_thread");
+        if (section != null) {
+            budgetMs = Math.max(0.1, section.getDouble("budget_ms", budgetMs));
+            maxQueued = Math.max(1, section.getInt("max_queued", maxQueued));
+        }
+        budgetNanos = (long) (budgetMs * 1_000_000);
+    }
+
+    /**
+     * Returns the singleton {@code MainThreadConfig} instance managed by {@link ConfigFactory}.
+     */
+    private static MainThreadConfig getInstance() {
+        return ConfigFactory.getConfig(MainThreadConfig.class);
+    }
+
+    /**
+     * Gets the time the plugin may spend per tick running queued work.
+     *
+     * @return the budget in nanoseconds (default: 2 ms)
+     */
+    public static long getBudgetNanos() {
+        return getInstance().budgetNanos;
+    }
+
+    /**
+     * Gets the maximum number of tasks waiting for the server thread; extra tasks are rejected.
+     *
+     * @return the limit (default: {@code 50000})
+     */
+    public static int getMaxQueued() {
+        return getInstance().maxQueued;
+    }
+}
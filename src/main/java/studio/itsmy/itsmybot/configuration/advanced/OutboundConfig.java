@@ -0,0 +1,146 @@
+package studio.itsmy.itsmybot.configuration.advanced;
+
+import studio.itsmy.itsmybot.configuration.ConfigFactory;
+import studio.itsmy.itsmybot.configuration.IConfigurable;
+import studio.itsmy.itsmybot.ws.outbound.OverflowPolicy;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Handles the outbound WebSocket pipeline settings.
+ *
+ * <p>This class loads the optional {@code outbound} section of {@code config.yml}.
+ * Every value has a default, so the section can be omitted entirely.
+ */
+public class OutboundConfig implements IConfigurable {
+
+    private final FileConfiguration config;
+
+    private int laneCapacity;
+    private long highWatermark;
+    private long lowWatermark;
+    private long blockTimeoutMs;
+    private final Set<String> bulkTypes = new HashSet<>();
+    private final Map<String, OverflowPolicy> policies = new HashMap<>();
+    private OverflowPolicy defaultPolicy;
+
+    /**
+     * Creates a new {@code OutboundConfig} loader.
+     *
+     * @param config the {@link FileConfiguration} to read from
+     */
+    public OutboundConfig(FileConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads outbound pipeline values from the {@code outbound} section, applying defaults when absent.
+     */
+    @Override
+    public void load() {
+        laneCapacity = 2048;
+        highWatermark = 1024 * 1024;
+        lowWatermark = 256 * 1024;
+        blockTimeoutMs = 250;
+        defaultPolicy = OverflowPolicy.BLOCK;
+        bulkTypes.clear();
+        bulkTypes.add("LOG");
+        bulkTypes.add("LOG_BATCH");
+        policies.clear();
+        policies.put("LOG", OverflowPolicy.SPILL);
+
+        final ConfigurationSection section = config.getConfigurationSection("outbound");
+        if (section == null) return;
+
+        laneCapacity = Math.max(16, section.getInt("lane_capacity", laneCapacity));
+        highWatermark = Math.max(1024, section.getLong("high_watermark", highWatermark));
+        lowWatermark = Math.min(highWatermark, Math.max(0, section.getLong("low_watermark", lowWatermark)));
+        blockTimeoutMs = Math.max(0, section.getLong("block_timeout_ms", blockTimeoutMs));
+        defaultPolicy = OverflowPolicy.fromString(section.getString("default_policy"), defaultPolicy);
+
+        if (section.contains("bulk_types")) {
+            bulkTypes.clear();
+            for (String type : section.getStringList("bulk_types")) {
+                bulkTypes.add(type.toUpperCase());
+            }
+        }
+
+        final ConfigurationSection policySection = section.getConfigurationSection("policies");
+        if (policySection != null) {
+            for (String type : policySection.getKeys(false)) {
+                policies.put(type.toUpperCase(), OverflowPolicy.fromString(policySection.getString(type), defaultPolicy));
+            }
+        }
+    }
+
+    /**
+     * Returns the singleton {@code OutboundConfig} instance managed by {@link ConfigFactory}.
+     */
+    private static OutboundConfig getInstance() {
+        return ConfigFactory.getConfig(OutboundConfig.class);
+    }
+
+    /**
+     * Gets the maximum number of messages buffered per lane.
+     *
+     * @return the lane capacity (default: {@code 2048})
+     */
+    public static int getLaneCapacity() {
+        return getInstance().laneCapacity;
+    }
+
+    /**
+     * Gets the OkHttp queue size (bytes) above which the writer pauses.
+     *
+     * @return the high watermark (default: 1 MiB)
+     */
+    public static long getHighWatermark() {
+        return getInstance().highWatermark;
+    }
+
+    /**
+     * Gets the OkHttp queue size (bytes) below which a paused writer resumes.
+     *
+     * @return the low watermark (default: 256 KiB)
+     */
+    public static long getLowWatermark() {
+        return getInstance().lowWatermark;
+    }
+
+    /**
+     * Gets the maximum time a {@link OverflowPolicy#BLOCK} producer waits for free space.
+     *
+     * @return the timeout in milliseconds (default: {@code 250})
+     */
+    public static long getBlockTimeoutMs() {
+        return getInstance().blockTimeoutMs;
+    }
+
+    /**
+     * Checks whether a message type is routed to the low-priority bulk lane.
+     *
+     * @param type message type (nullable)
+     * @return {@code true} for bulk types (default: {@code LOG}, {@code LOG_BATCH})
+     */
+    public static boolean isBulkType(String type) {
+        return type != null && getInstance().bulkTypes.contains(type);
+    }
+
+    /**
+     * Gets the overflow policy for a message type.
+     *
+     * @param type message type (nullable)
+     * @return the configured policy, or the default policy
+     */
+    public static OverflowPolicy getPolicy(String type) {
+        final OutboundConfig instance = getInstance();
+        if (type == null) return instance.defaultPolicy;
+        final OverflowPolicy policy = instance.policies.get(type);
+        return policy != null ? policy : instance.defaultPolicy;
+    }
+}
@@ -0,0 +1,88 @@
+package studio.itsmy.itsmybot.configuration.advanced;
+
+import studio.itsmy.itsmybot.configuration.ConfigFactory;
+import studio.itsmy.itsmybot.configuration.IConfigurable;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Handles the resolution of placeholders outside the server thread.
+ *
+ * <p>This class loads the optional {@code placeholder_async} section of {@code config.yml}.
+ * Only the listed placeholders ({@code identifier_params}, case-insensitive, a trailing {@code *} matching any
+ * suffix) are resolved asynchronously; none are listed by default.
+ */
+public class PlaceholderAsyncConfig implements IConfigurable {
+
+    private final FileConfiguration config;
+
+    private boolean enabled;
+    private boolean learn;
+    private final Set<String> placeholders = new HashSet<>();
+
+    /**
+     * Creates a new {@code PlaceholderAsyncConfig} loader.
+     *
+     * @param config the {@link FileConfiguration} to read from
+     */
+    public PlaceholderAsyncConfig(FileConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads values from the {@code placeholder_async} section, applying defaults when absent.
+     */
+    @Override
+    public void load() {
+        enabled = false;
+        learn = true;
+        placeholders.clear();
+
+        final ConfigurationSection section = config.getConfigurationSection("placeholder_async");
+        if (section == null) return;
+
+        enabled = section.getBoolean("enabled", enabled);
+        learn = section.getBoolean("learn", learn);
+        for (String placeholder : section.getStringList("placeholders")) {
+            placeholders.add(placeholder.toLowerCase());
+        }
+    }
+
+    /**
+     * Returns the singleton {@code PlaceholderAsyncConfig} instance managed by {@link ConfigFactory}.
+     */
+    private static PlaceholderAsyncConfig getInstance() {
+        return ConfigFactory.getConfig(PlaceholderAsyncConfig.class);
+    }
+
+    /**
+     * Checks whether async-safe placeholders are resolved outside the server thread.
+     *
+     * @return {@code true} if enabled (default: {@code false})
+     */
+    public static boolean isEnabled() {
+        return getInstance().enabled;
+    }
+
+    /**
+     * Checks whether a placeholder failing outside the server thread is moved back to it until the next reload.
+     *
+     * @return {@code true} if enabled (default: {@code true})
+     */
+    public static boolean isLearn() {
+        return getInstance().learn;
+    }
+
+    /**
+     * Gets the placeholder patterns declared async-safe.
+     *
+     * @return an unmodifiable view of the lower-case patterns (default: empty)
+     */
+    public static Set<String> getPlaceholders() {
+        return Collections.unmodifiableSet(getInstance().placeholders);
+    }
+}
@@ -0,0 +1,145 @@
+package studio.itsmy.itsmybot.configuration.advanced;
+
+import studio.itsmy.itsmybot.configuration.ConfigFactory;
+import studio.itsmy.itsmybot.configuration.IConfigurable;
+import studio.itsmy.itsmybot.util.PluginLogger;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Handles the cache of resolved placeholders.
+ *
+ * <p>This class loads the optional {@code placeholder_cache} section of {@code config.yml}.
+ * Each rule maps a placeholder pattern ({@code *} matches any characters) to a time-to-live;
+ * the first matching rule wins, other placeholders use {@code default_ttl_ms}.
+ * {@code max_templates} bounds the compiled placeholder strings, which are always kept.
+ */
+public class PlaceholderCacheConfig implements IConfigurable {
+
+    private final FileConfiguration config;
+
+    private boolean enabled;
+    private int maxEntries;
+    private int maxTemplates;
+    private long defaultTtlMs;
+    private final List<Rule> rules = new ArrayList<>();
+
+    /**
+     * Creates a new {@code PlaceholderCacheConfig} loader.
+     *
+     * @param config the {@link FileConfiguration} to read from
+     */
+    public PlaceholderCacheConfig(FileConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads cache values from the {@code placeholder_cache} section, applying defaults when absent.
+     */
+    @Override
+    public void load() {
+        enabled = false;
+        maxEntries = 10000;
+        maxTemplates = 1024;
+        defaultTtlMs = 0;
+        rules.clear();
+
+        final ConfigurationSection section = config.getConfigurationSection("placeholder_cache");
+        if (section == null) return;
+
+        enabled = section.getBoolean("enabled", enabled);
+        maxEntries = Math.max(16, section.getInt("max_entries", maxEntries));
+        maxTemplates = Math.max(16, section.getInt("max_templates", maxTemplates));
+        defaultTtlMs = Math.max(0, section.getLong("default_ttl_ms", defaultTtlMs));
+
+        for (Map<?, ?> rule : section.getMapList("rules")) {
+            final Object pattern = rule.get("pattern");
+            final Object ttl = rule.get("ttl_ms");
+            if (pattern == null || !(ttl instanceof Number)) {
+                PluginLogger.warn("Ignoring invalid placeholder cache rule: " + rule);
+                continue;
+            }
+            rules.add(new Rule(glob(pattern.toString()), Math.max(0, ((Number) ttl).longValue())));
+        }
+    }
+
+    /**
+     * Compiles a pattern where {@code *} matches any characters.
+     */
+    private static Pattern glob(String pattern) {
+        final StringBuilder regex = new StringBuilder();
+        for (String part : pattern.split("\\*", -1)) {
+            if (regex.length() > 0) regex.append(".*");
+            if (!part.isEmpty()) regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * Returns the singleton {@code PlaceholderCacheConfig} instance managed by {@link ConfigFactory}.
+     */
+    private static PlaceholderCacheConfig getInstance() {
+        return ConfigFactory.getConfig(PlaceholderCacheConfig.class);
+    }
+
+    /**
+     * Checks whether resolved placeholders are cached.
+     *
+     * @return {@code true} if enabled (default: {@code false})
+     */
+    public static boolean isEnabled() {
+        return getInstance().enabled;
+    }
+
+    /**
+     * Gets the maximum number of cached values, the least recently used are evicted beyond it.
+     *
+     * @return the limit (default: {@code 10000})
+     */
+    public static int getMaxEntries() {
+        return getInstance().maxEntries;
+    }
+
+    /**
+     * Gets the maximum number of compiled placeholder strings, the least recently used are dropped beyond it.
+     *
+     * @return the limit (default: {@code 1024})
+     */
+    public static int getMaxTemplates() {
+        return getInstance().maxTemplates;
+    }
+
+    /**
+     * Gets the time-to-live of a placeholder's values.
+     *
+     * @param placeholder raw placeholder string
+     * @return the TTL in milliseconds, {@code 0} if not cached
+     */
+    public static long getTtlMs(String placeholder) {
+        final PlaceholderCacheConfig instance = getInstance();
+        for (Rule rule : instance.rules) {
+            if (rule.pattern.matcher(placeholder).matches()) {
+                return rule.ttlMs;
+            }
+        }
+        return instance.defaultTtlMs;
+    }
+
+    /**
+     * A placeholder pattern and its time-to-live.
+     */
+    private static final class Rule {
+        private final Pattern pattern;
+        private final long ttlMs;
+
+        private Rule(Pattern pattern, long ttlMs) {
+            this.pattern = pattern;
+            this.ttlMs = ttlMs;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package studio.itsmy.itsmybot.configuration.advanced;
+
+import studio.itsmy.itsmybot.configuration.ConfigFactory;
+import studio.itsmy.itsmybot.configuration.IConfigurable;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+/**
+ * Handles the placeholder subscriptions of the bot.
+ *
+ * <p>This class loads the optional {@code placeholder_subscriptions} section of {@code config.yml}.
+ */
+public class PlaceholderSubscriptionConfig implements IConfigurable {
+
+    private final FileConfiguration config;
+
+    private long intervalMs;
+    private int maxValues;
+
+    /**
+     * Creates a new {@code PlaceholderSubscriptionConfig} loader.
+     *
+     * @param config the {@link FileConfiguration} to read from
+     */
+    public PlaceholderSubscriptionConfig(FileConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads subscription values from the {@code placeholder_subscriptions} section, applying defaults when absent.
+     */
+    @Override
+    public void load() {
+        intervalMs = 5000;
+        maxValues = 10000;
+
+        final ConfigurationSection section = config.getConfigurationSection("placeholder_subscriptions");
+        if (section == null) return;
+
+        intervalMs = Math.max(50, section.getLong("interval_ms", intervalMs));
+        maxValues = Math.max(1, section.getInt("max_values", maxValues));
+    }
+
+    /**
+     * Returns the singleton {@code PlaceholderSubscriptionConfig} instance managed by {@link ConfigFactory}.
+     */
+    private static PlaceholderSubscriptionConfig getInstance() {
+        return ConfigFactory.getConfig(PlaceholderSubscriptionConfig.class);
+    }
+
+    /**
+     * Gets the interval at which every subscribed value is re-evaluated.
+     *
+     * @return the interval in milliseconds (default: {@code 5000})
+     */
+    public static long getIntervalMs() {
+        return getInstance().intervalMs;
+    }
+
+    /**
+     * Gets the maximum number of subscribed values (placeholder &times; player), all subscriptions combined.
+     *
+     * @return the limit (default: {@code 10000})
+     */
+    public static int getMaxValues() {
+        return getInstance().maxValues;
+    }
+}
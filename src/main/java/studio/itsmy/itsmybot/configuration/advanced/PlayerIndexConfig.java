@@ -0,0 +1,68 @@
+package studio.itsmy.itsmybot.configuration.advanced;
+
+import studio.itsmy.itsmybot.configuration.ConfigFactory;
+import studio.itsmy.itsmybot.configuration.IConfigurable;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+/**
+ * Handles the in-memory index of known players.
+ *
+ * <p>This class loads the optional {@code player_index} section of {@code config.yml}.
+ */
+public class PlayerIndexConfig implements IConfigurable {
+
+    private final FileConfiguration config;
+
+    private boolean enabled;
+    private int maxUnknown;
+
+    /**
+     * Creates a new {@code PlayerIndexConfig} loader.
+     *
+     * @param config the {@link FileConfiguration} to read from
+     */
+    public PlayerIndexConfig(FileConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads index values from the {@code player_index} section, applying defaults when absent.
+     */
+    @Override
+    public void load() {
+        enabled = true;
+        maxUnknown = 10000;
+
+        final ConfigurationSection section = config.getConfigurationSection("player_index");
+        if (section == null) return;
+
+        enabled = section.getBoolean("enabled", enabled);
+        maxUnknown = Math.max(0, section.getInt("max_unknown", maxUnknown));
+    }
+
+    /**
+     * Returns the singleton {@code PlayerIndexConfig} instance managed by {@link ConfigFactory}.
+     */
+    private static PlayerIndexConfig getInstance() {
+        return ConfigFactory.getConfig(PlayerIndexConfig.class);
+    }
+
+    /**
+     * Checks whether player lookups go through the index instead of the player data files.
+     *
+     * @return {@code true} if enabled (default: {@code true})
+     */
+    public static boolean isEnabled() {
+        return getInstance().enabled;
+    }
+
+    /**
+     * Gets the maximum number of unknown UUIDs remembered.
+     *
+     * @return the limit (default: {@code 10000})
+     */
+    public static int getMaxUnknown() {
+        return getInstance().maxUnknown;
+    }
+}
@@ -0,0 +1,92 @@
+package studio.itsmy.itsmybot.configuration.advanced;
+
+import studio.itsmy.itsmybot.configuration.ConfigFactory;
+import studio.itsmy.itsmybot.configuration.IConfigurable;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+/**
+ * Handles the WebSocket reconnection policy settings.
+ *
+ * <p>This class loads the optional {@code reconnect} section of {@code config.yml}.
+ */
+public class ReconnectConfig implements IConfigurable {
+
+    private final FileConfiguration config;
+
+    private long firstRetryJitterMs;
+    private long baseDelayMs;
+    private long maxDelayMs;
+    private int failureThreshold;
+
+    /**
+     * Creates a new {@code ReconnectConfig} loader.
+     *
+     * @param config the {@link FileConfiguration} to read from
+     */
+    public ReconnectConfig(FileConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads reconnection values from the {@code reconnect} section, applying defaults when absent.
+     */
+    @Override
+    public void load() {
+        firstRetryJitterMs = 250;
+        baseDelayMs = 500;
+        maxDelayMs = 60_000;
+        failureThreshold = 6;
+
+        final ConfigurationSection section = config.getConfigurationSection("reconnect");
+        if (section == null) return;
+
+        firstRetryJitterMs = Math.max(0, section.getLong("first_retry_jitter_ms", firstRetryJitterMs));
+        baseDelayMs = Math.max(100, section.getLong("base_delay_ms", baseDelayMs));
+        maxDelayMs = Math.max(baseDelayMs, section.getLong("max_delay_ms", maxDelayMs));
+        failureThreshold = Math.max(1, section.getInt("failure_threshold", failureThreshold));
+    }
+
+    /**
+     * Returns the singleton {@code ReconnectConfig} instance managed by {@link ConfigFactory}.
+     */
+    private static ReconnectConfig getInstance() {
+        return ConfigFactory.getConfig(ReconnectConfig.class);
+    }
+
+    /**
+     * Gets the maximum random delay of the first (immediate) retry.
+     *
+     * @return the jitter in milliseconds (default: {@code 250})
+     */
+    public static long getFirstRetryJitterMs() {
+        return getInstance().firstRetryJitterMs;
+    }
+
+    /**
+     * Gets the minimum delay between two retries after the first one.
+     *
+     * @return the base delay in milliseconds (default: {@code 500})
+     */
+    public static long getBaseDelayMs() {
+        return getInstance().baseDelayMs;
+    }
+
+    /**
+     * Gets the maximum delay between two retries.
+     *
+     * @return the cap in milliseconds (default: {@code 60000})
+     */
+    public static long getMaxDelayMs() {
+        return getInstance().maxDelayMs;
+    }
+
+    /**
+     * Gets the number of consecutive failures after which the circuit opens.
+     *
+     * @return the failure threshold (default: {@code 6})
+     */
+    public static int getFailureThreshold() {
+        return getInstance().failureThreshold;
+    }
+}
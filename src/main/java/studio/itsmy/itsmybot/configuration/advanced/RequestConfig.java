@@ -0,0 +1,72 @@
+package studio.itsmy.itsmybot.configuration.advanced;
+
+import studio.itsmy.itsmybot.configuration.ConfigFactory;
+import studio.itsmy.itsmybot.configuration.IConfigurable;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Handles request/response settings (timeouts per message type).
+ *
+ * <p>This class loads the optional {@code requests} section of {@code config.yml}.
+ */
+public class RequestConfig implements IConfigurable {
+
+    private final FileConfiguration config;
+
+    private long defaultTimeoutMs;
+    private final Map<String, Long> timeouts = new HashMap<>();
+
+    /**
+     * Creates a new {@code RequestConfig} loader.
+     *
+     * @param config the {@link FileConfiguration} to read from
+     */
+    public RequestConfig(FileConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads request values from the {@code requests} section, applying defaults when absent.
+     */
+    @Override
+    public void load() {
+        defaultTimeoutMs = 5000;
+        timeouts.clear();
+
+        final ConfigurationSection section = config.getConfigurationSection("requests");
+        if (section == null) return;
+
+        defaultTimeoutMs = Math.max(100, section.getLong("default_timeout_ms", defaultTimeoutMs));
+
+        final ConfigurationSection timeoutSection = section.getConfigurationSection("timeouts");
+        if (timeoutSection != null) {
+            for (String type : timeoutSection.getKeys(false)) {
+                timeouts.put(type.toUpperCase(), Math.max(100, timeoutSection.getLong(type, defaultTimeoutMs)));
+            }
+        }
+    }
+
+    /**
+     * Returns the singleton {@code RequestConfig} instance managed by {@link ConfigFactory}.
+     */
+    private static RequestConfig getInstance() {
+        return ConfigFactory.getConfig(RequestConfig.class);
+    }
+
+    /**
+     * Gets the response timeout for a request type.
+     *
+     * @param type request type (nullable)
+     * @return the timeout in milliseconds (default: {@code 5000})
+     */
+    public static long getTimeoutMs(String type) {
+        final RequestConfig instance = getInstance();
+        if (type == null) return instance.defaultTimeoutMs;
+        final Long timeout = instance.timeouts.get(type);
+        return timeout != null ? timeout : instance.defaultTimeoutMs;
+    }
+}
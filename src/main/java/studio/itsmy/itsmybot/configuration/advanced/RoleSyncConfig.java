@@ -0,0 +1,140 @@
+package studio.itsmy.itsmybot.configuration.advanced;
+
+import studio.itsmy.itsmybot.configuration.ConfigFactory;
+import studio.itsmy.itsmybot.configuration.IConfigurable;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+/**
+ * Handles the role synchronization requests sent to the bot.
+ *
+ * <p>This class loads the optional {@code role_sync} section of {@code config.yml}.
+ */
+public class RoleSyncConfig implements IConfigurable {
+
+    private final FileConfiguration config;
+
+    private boolean batchEnabled;
+    private long batchWindowMs;
+    private int batchSize;
+    private long updateDebounceMs;
+    private long updateMaxDelayMs;
+    private boolean fingerprints;
+    private long expectedMutationTtlMs;
+    private int groupFanoutPerTick;
+
+    /**
+     * Creates a new {@code RoleSyncConfig} loader.
+     *
+     * @param config the {@link FileConfiguration} to read from
+     */
+    public RoleSyncConfig(FileConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads role sync values from the {@code role_sync} section, applying defaults when absent.
+     */
+    @Override
+    public void load() {
+        batchEnabled = false;
+        batchWindowMs = 250;
+        batchSize = 100;
+        updateDebounceMs = 500;
+        updateMaxDelayMs = 5000;
+        fingerprints = false;
+        expectedMutationTtlMs = 30000;
+        groupFanoutPerTick = 50;
+
+        final ConfigurationSection section = config.getConfigurationSection("role_sync");
+        if (section == null) return;
+
+        batchEnabled = section.getBoolean("batch_enabled", batchEnabled);
+        batchWindowMs = Math.max(0, section.getLong("batch_window_ms", batchWindowMs));
+        batchSize = Math.max(1, section.getInt("batch_size", batchSize));
+        updateDebounceMs = Math.max(0, section.getLong("update_debounce_ms", updateDebounceMs));
+        updateMaxDelayMs = Math.max(updateDebounceMs, section.getLong("update_max_delay_ms", updateMaxDelayMs));
+        fingerprints = section.getBoolean("fingerprints", fingerprints);
+        expectedMutationTtlMs = Math.max(1000, section.getLong("expected_mutation_ttl_ms", expectedMutationTtlMs));
+        groupFanoutPerTick = Math.max(1, section.getInt("group_fanout_per_tick", groupFanoutPerTick));
+    }
+
+    /**
+     * Returns the singleton {@code RoleSyncConfig} instance managed by {@link ConfigFactory}.
+     */
+    private static RoleSyncConfig getInstance() {
+        return ConfigFactory.getConfig(RoleSyncConfig.class);
+    }
+
+    /**
+     * Checks whether join-triggered full syncs are batched ({@code FULL_ROLE_SYNC_BATCH}).
+     *
+     * @return {@code true} if enabled (default: {@code false})
+     */
+    public static boolean isBatchEnabled() {
+        return getInstance().batchEnabled;
+    }
+
+    /**
+     * Gets the time full syncs are collected before their batch is sent.
+     *
+     * @return the window in milliseconds (default: {@code 250})
+     */
+    public static long getBatchWindowMs() {
+        return getInstance().batchWindowMs;
+    }
+
+    /**
+     * Gets the maximum number of players per batch; a full batch is sent without waiting for the window.
+     *
+     * @return the batch size (default: {@code 100})
+     */
+    public static int getBatchSize() {
+        return getInstance().batchSize;
+    }
+
+    /**
+     * Gets the quiet time after a player's last local group change before their {@code ROLE_SYNC_UPDATE} is sent.
+     *
+     * @return the window in milliseconds, {@code 0} to send every update right away (default: {@code 500})
+     */
+    public static long getUpdateDebounceMs() {
+        return getInstance().updateDebounceMs;
+    }
+
+    /**
+     * Gets the maximum time a {@code ROLE_SYNC_UPDATE} is held back by a burst of changes.
+     *
+     * @return the delay in milliseconds (default: {@code 5000})
+     */
+    public static long getUpdateMaxDelayMs() {
+        return getInstance().updateMaxDelayMs;
+    }
+
+    /**
+     * Checks whether full syncs of players whose groups did not change carry a fingerprint instead of the groups.
+     *
+     * @return {@code true} if enabled (default: {@code false})
+     */
+    public static boolean isFingerprints() {
+        return getInstance().fingerprints;
+    }
+
+    /**
+     * Gets the time a group change applied for the bot is awaited from LuckPerms before being forgotten.
+     *
+     * @return the time in milliseconds (default: {@code 30000})
+     */
+    public static long getExpectedMutationTtlMs() {
+        return getInstance().expectedMutationTtlMs;
+    }
+
+    /**
+     * Gets the number of online players checked per tick when a group's inherited groups change.
+     *
+     * @return the number of players (default: {@code 50})
+     */
+    public static int getGroupFanoutPerTick() {
+        return getInstance().groupFanoutPerTick;
+    }
+}
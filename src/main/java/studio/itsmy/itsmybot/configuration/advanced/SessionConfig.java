@@ -0,0 +1,81 @@
+package studio.itsmy.itsmybot.configuration.advanced;
+
+import studio.itsmy.itsmybot.configuration.ConfigFactory;
+import studio.itsmy.itsmybot.configuration.IConfigurable;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+/**
+ * Handles the session-resume settings of the WebSocket link.
+ *
+ * <p>This class loads the optional {@code session} section of {@code config.yml}.
+ * Resume is disabled by default since it requires bot-side support.
+ */
+public class SessionConfig implements IConfigurable {
+
+    private final FileConfiguration config;
+
+    private boolean resumeEnabled;
+    private int replayBufferSize;
+    private long ackIntervalMs;
+
+    /**
+     * Creates a new {@code SessionConfig} loader.
+     *
+     * @param config the {@link FileConfiguration} to read from
+     */
+    public SessionConfig(FileConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads session values from the {@code session} section, applying defaults when absent.
+     */
+    @Override
+    public void load() {
+        resumeEnabled = false;
+        replayBufferSize = 1024;
+        ackIntervalMs = 5000;
+
+        final ConfigurationSection section = config.getConfigurationSection("session");
+        if (section == null) return;
+
+        resumeEnabled = section.getBoolean("resume", resumeEnabled);
+        replayBufferSize = Math.max(16, section.getInt("replay_buffer", replayBufferSize));
+        ackIntervalMs = Math.max(500, section.getLong("ack_interval_ms", ackIntervalMs));
+    }
+
+    /**
+     * Returns the singleton {@code SessionConfig} instance managed by {@link ConfigFactory}.
+     */
+    private static SessionConfig getInstance() {
+        return ConfigFactory.getConfig(SessionConfig.class);
+    }
+
+    /**
+     * Checks whether the session-resume protocol is enabled.
+     *
+     * @return {@code true} if enabled (default: {@code false})
+     */
+    public static boolean isResumeEnabled() {
+        return getInstance().resumeEnabled;
+    }
+
+    /**
+     * Gets the maximum number of unacknowledged outbound frames kept for replay.
+     *
+     * @return the replay buffer size (default: {@code 1024})
+     */
+    public static int getReplayBufferSize() {
+        return getInstance().replayBufferSize;
+    }
+
+    /**
+     * Gets the interval of explicit {@code ACK} frames when no outbound traffic carries the ack.
+     *
+     * @return the interval in milliseconds (default: {@code 5000})
+     */
+    public static long getAckIntervalMs() {
+        return getInstance().ackIntervalMs;
+    }
+}
@@ -0,0 +1,104 @@
+package studio.itsmy.itsmybot.configuration.advanced;
+
+import studio.itsmy.itsmybot.configuration.ConfigFactory;
+import studio.itsmy.itsmybot.configuration.IConfigurable;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+/**
+ * Handles the disk spool settings used to keep log events while the bot is unreachable.
+ *
+ * <p>This class loads the optional {@code spool} section of {@code config.yml}.
+ */
+public class SpoolConfig implements IConfigurable {
+
+    private final FileConfiguration config;
+
+    private boolean enabled;
+    private long segmentBytes;
+    private long maxBytes;
+    private int batchSize;
+    private long drainIntervalMs;
+
+    /**
+     * Creates a new {@code SpoolConfig} loader.
+     *
+     * @param config the {@link FileConfiguration} to read from
+     */
+    public SpoolConfig(FileConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads spool values from the {@code spool} section, applying defaults when absent.
+     */
+    @Override
+    public void load() {
+        enabled = true;
+        segmentBytes = 1024 * 1024;
+        maxBytes = 16 * 1024 * 1024;
+        batchSize = 200;
+        drainIntervalMs = 1000;
+
+        final ConfigurationSection section = config.getConfigurationSection("spool");
+        if (section == null) return;
+
+        enabled = section.getBoolean("enabled", enabled);
+        segmentBytes = Math.max(4096, section.getLong("segment_bytes", segmentBytes));
+        maxBytes = Math.max(segmentBytes, section.getLong("max_bytes", maxBytes));
+        batchSize = Math.max(1, section.getInt("batch_size", batchSize));
+        drainIntervalMs = Math.max(50, section.getLong("drain_interval_ms", drainIntervalMs));
+    }
+
+    /**
+     * Returns the singleton {@code SpoolConfig} instance managed by {@link ConfigFactory}.
+     */
+    private static SpoolConfig getInstance() {
+        return ConfigFactory.getConfig(SpoolConfig.class);
+    }
+
+    /**
+     * Checks whether log events are spooled to disk while the bot is unreachable.
+     *
+     * @return {@code true} if enabled (default: {@code true})
+     */
+    public static boolean isEnabled() {
+        return getInstance().enabled;
+    }
+
+    /**
+     * Gets the maximum size of a spool segment file.
+     *
+     * @return the size in bytes (default: 1 MiB)
+     */
+    public static long getSegmentBytes() {
+        return getInstance().segmentBytes;
+    }
+
+    /**
+     * Gets the maximum disk usage of the spool; oldest segments are dropped beyond it.
+     *
+     * @return the size in bytes (default: 16 MiB)
+     */
+    public static long getMaxBytes() {
+        return getInstance().maxBytes;
+    }
+
+    /**
+     * Gets the maximum number of spooled events re-sent per drain cycle.
+     *
+     * @return the batch size (default: {@code 200})
+     */
+    public static int getBatchSize() {
+        return getInstance().batchSize;
+    }
+
+    /**
+     * Gets the interval between two drain cycles.
+     *
+     * @return the interval in milliseconds (default: {@code 1000})
+     */
+    public static long getDrainIntervalMs() {
+        return getInstance().drainIntervalMs;
+    }
+}
@@ -29,6 +29,7 @@ public enum Messages {
     )),
     ADMIN_HELP("admin_help", String.join("\n",
             "<br><#E0E3FF> • <#5865F2>/discord reload</#5865F2>: reload the plugin configuration</#E0E3FF>",
+            "<#E0E3FF> • <#5865F2>/discord stats</#5865F2>: show the bot link statistics</#E0E3FF>",
             "<br><#E0E3FF> • <#5865F2>ᴘʀᴏᴊᴇᴛ</#5865F2>: ItsMyStudio",
             "<#E0E3FF> • <#5865F2>sᴜᴘᴘᴏʀᴛ</#5865F2>: <click:open_url:'https://itsmy.studio/discord'>itsmy.studio/discord</click>",
             "<#E0E3FF> • <#5865F2>ᴅᴇᴠᴇʟᴏᴘᴇʀ</#5865F2>: <hover:show_text:'Discord: <#5865F2>@ordwen</#5865F2><br>GitHub: <#5865F2>github.com/Ordwen</#5865F2>'><click:open_url:'https://github.com/Ordwen'>Ordwen</click></hover>"
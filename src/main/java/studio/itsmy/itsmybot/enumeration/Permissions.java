@@ -14,7 +14,8 @@ public enum Permissions {
     UNLINK("itsmybot.unlink"),
     CLAIM("itsmybot.claim"),
 
-    RELOAD("itsmybot.reload");
+    RELOAD("itsmybot.reload"),
+    STATS("itsmybot.stats");
 
     private final String permission;
 
@@ -13,6 +13,7 @@ import org.bukkit.event.player.PlayerJoinEvent;
  * <p>
  * When a player joins the server, this listener:
  * <ul>
+ *     <li>Records the player in the {@link studio.itsmy.itsmybot.service.PlayerIndexService}</li>
  *     <li>Triggers a full role synchronization via {@link RoleSyncUtil#sendFullRoleSync(ItsMyBotPlugin, OfflinePlayer)}</li>
  *     <li>Logs the player's connection in the plugin's {@link studio.itsmy.itsmybot.service.LogService}</li>
  * </ul>
@@ -42,6 +43,7 @@ public class PlayerJoinListener implements Listener {
     public void onPlayerJoin(PlayerJoinEvent event) {
         final Player player = event.getPlayer();
 
+        plugin.getPlayerIndexService().remember(player);
         RoleSyncUtil.sendFullRoleSync(plugin, player);
         plugin.getLogService().logPlayerJoin(player);
     }
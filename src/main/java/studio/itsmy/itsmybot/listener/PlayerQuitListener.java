@@ -9,7 +9,8 @@ import org.bukkit.event.player.PlayerQuitEvent;
  * Listener responsible for handling player quit events.
  * <p>
  * When a player leaves the server, this listener delegates the event to the
- * plugin's {@link studio.itsmy.itsmybot.service.LogService} to log the departure.
+ * plugin's {@link studio.itsmy.itsmybot.service.LogService} to log the departure,
+ * and refreshes the player's entry in the {@link studio.itsmy.itsmybot.service.PlayerIndexService}.
  */
 public class PlayerQuitListener implements Listener {
 
@@ -28,12 +29,13 @@ public class PlayerQuitListener implements Listener {
      * Handles the {@link PlayerQuitEvent}.
      * <p>
      * Invoked automatically by Bukkit when a player disconnects from the server.
-     * This method logs the player's departure.
+     * This method logs the player's departure and keeps the player index current.
      *
      * @param event the player quit event
      */
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
+        plugin.getPlayerIndexService().remember(event.getPlayer());
         plugin.getLogService().logPlayerLeave(event.getPlayer());
     }
 }
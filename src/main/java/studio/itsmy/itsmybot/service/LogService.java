@@ -2,9 +2,19 @@ package studio.itsmy.itsmybot.service;
 
 import com.google.gson.JsonObject;
 import studio.itsmy.itsmybot.ItsMyBotPlugin;
+import studio.itsmy.itsmybot.configuration.advanced.LogBatchConfig;
+import studio.itsmy.itsmybot.configuration.advanced.SpoolConfig;
 import studio.itsmy.itsmybot.enumeration.LogType;
+import studio.itsmy.itsmybot.util.PluginLogger;
+import studio.itsmy.itsmybot.ws.WSClient;
+import studio.itsmy.itsmybot.ws.handler.LogBatcher;
 import studio.itsmy.itsmybot.ws.handler.LogWSHandler;
+import studio.itsmy.itsmybot.ws.outbound.LogSpool;
 import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
 
 /**
  * Service responsible for logging significant server and player events.
@@ -18,19 +28,119 @@ import org.bukkit.entity.Player;
  *     <li>Player join and leave</li>
  *     <li>Player command executions</li>
  * </ul>
+ *
+ * <p>When enabled in {@link SpoolConfig}, logs emitted while the bot is unreachable are kept in a
+ * {@link LogSpool} on disk, then re-sent in rate-limited batches once the client is ready again.
+ *
+ * <p>When enabled in {@link LogBatchConfig}, logs are grouped into {@code LOG_BATCH} frames by a
+ * {@link LogBatcher}, flushed on size or every {@code log_batch.max_delay_ms}.
  */
 public class LogService {
 
     private final ItsMyBotPlugin plugin;
-    private final LogWSHandler logHandler = new LogWSHandler();
+    private final LogWSHandler logHandler;
+    private final LogSpool spool;
+    private final LogBatcher batcher;
+    private BukkitTask drainTask;
+    private BukkitTask flushTask;
 
     /**
      * Creates a new {@code LogService}.
+     * <p>
+     * Opens the disk spool (if enabled), registers it as the spill target of the outbound queue,
+     * and starts the asynchronous drain task. Starts the batch flush task when batching is enabled.
      *
      * @param plugin the main plugin instance
      */
     public LogService(ItsMyBotPlugin plugin) {
         this.plugin = plugin;
+        this.spool = SpoolConfig.isEnabled() ? openSpool() : null;
+        this.batcher = LogBatchConfig.isEnabled() ? new LogBatcher(plugin, spool) : null;
+        this.logHandler = new LogWSHandler(spool, batcher);
+
+        if (batcher != null) {
+            final long period = Math.max(1, LogBatchConfig.getMaxDelayMs() / 50);
+            this.flushTask = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, batcher::flush, period, period);
+        }
+
+        if (spool != null) {
+            plugin.getWSClient().getOutboundQueue().setSpillHandler((type, payload) ->
+                    logHandler.getType().equals(type) && spool.append(payload));
+
+            final long period = Math.max(1, SpoolConfig.getDrainIntervalMs() / 50);
+            this.drainTask = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, this::drainSpool, period, period);
+        }
+    }
+
+    /**
+     * Opens the log spool in the plugin data folder.
+     *
+     * @return the spool, or {@code null} if it could not be opened
+     */
+    private LogSpool openSpool() {
+        final LogSpool logSpool = new LogSpool(new File(plugin.getDataFolder(), "spool"),
+                SpoolConfig.getSegmentBytes(), SpoolConfig.getMaxBytes());
+        try {
+            logSpool.open();
+            return logSpool;
+        } catch (IOException e) {
+            PluginLogger.error("Failed to open the log spool, logs will be dropped while the bot is unreachable: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Re-sends a batch of spooled logs if the client is ready.
+     * <p>
+     * Logs are only moved while the bulk lane of the outbound queue has room, so draining never
+     * competes with live traffic.
+     */
+    private void drainSpool() {
+        final WSClient client = plugin.getWSClient();
+        if (!client.isReady() || !spool.hasBacklog()) return;
+
+        spool.drain(SpoolConfig.getBatchSize(), payload ->
+                client.getOutboundQueue().tryOffer(logHandler.getType(), payload));
+    }
+
+    /**
+     * Stops the background tasks, flushes the pending batch and closes the spool.
+     * <p>
+     * Call this once on plugin disable, after the last log was emitted.
+     */
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        if (batcher != null) {
+            batcher.flush();
+        }
+        if (drainTask != null) {
+            drainTask.cancel();
+            drainTask = null;
+        }
+        if (spool != null) {
+            spool.close();
+        }
+    }
+
+    /**
+     * Gets the disk spool.
+     *
+     * @return the spool, or {@code null} if disabled
+     */
+    public LogSpool getSpool() {
+        return spool;
+    }
+
+    /**
+     * Gets the log batcher.
+     *
+     * @return the batcher, or {@code null} if disabled
+     */
+    public LogBatcher getBatcher() {
+        return batcher;
     }
 
     /**
@@ -0,0 +1,227 @@
+package studio.itsmy.itsmybot.service;
+
+import studio.itsmy.itsmybot.ItsMyBotPlugin;
+import studio.itsmy.itsmybot.configuration.advanced.MainThreadConfig;
+import studio.itsmy.itsmybot.util.PluginLogger;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Service handing work over to the server thread.
+ * <p>
+ * Instead of one scheduler task per message, work is queued here from any thread and run by a single
+ * repeating task, once per tick, within a time budget ({@code main_thread.budget_ms}). Work left when the
+ * budget is spent stays queued, in order, for the next tick: a burst of messages (a join storm, for example)
+ * is spread over several ticks instead of lowering the TPS.
+ * <p>
+ * A task is never interrupted: the budget is checked between tasks, so each task should stay short.
+ * Work made of many items is queued one task per item ({@link #executeEach(Collection, Consumer, Runnable)}),
+ * and long-running work can check {@link #isBudgetSpent()} to stop and queue its remainder.
+ * <p>
+ * Tasks are rejected with a {@link RejectedExecutionException} beyond {@code main_thread.max_queued} waiting
+ * tasks, and after {@link #shutdown()}: callers handle the rejection (answer with an error, retry later...).
+ *
+ * <h2>Thread-safety</h2>
+ * {@link #execute(Runnable)} may be called from any thread (multi-producer, single consumer).
+ */
+public class MainThreadService implements Executor {
+
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final BukkitTask drainTask;
+
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile boolean stopped;
+    private boolean draining;
+    private long tickDeadline;
+    private volatile long busyTicks;
+    private volatile long carriedTicks;
+    private volatile long lastTickNanos;
+    private volatile long maxTickNanos;
+    private volatile long totalTickNanos;
+
+    /**
+     * Creates a new {@code MainThreadService} and starts its drain task.
+     *
+     * @param plugin the main plugin instance
+     */
+    public MainThreadService(ItsMyBotPlugin plugin) {
+        this.drainTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::drain, 1L, 1L);
+    }
+
+    /**
+     * Queues a task for the server thread.
+     *
+     * @param task the task
+     * @throws RejectedExecutionException if {@code main_thread.max_queued} tasks are already waiting,
+     *                                    or the service is shut down
+     */
+    @Override
+    public void execute(Runnable task) {
+        reserve(1);
+        queue.add(task);
+    }
+
+    /**
+     * Queues one task per item, then {@code done}, so that the tick budget applies between items.
+     * <p>
+     * All the tasks are queued, or none: {@code done} runs after every item, even if some of them threw.
+     *
+     * @param items  items to process
+     * @param action action run for each item on the server thread
+     * @param done   task run once all items were processed
+     * @param <T>    item type
+     * @throws RejectedExecutionException if the tasks do not fit under {@code main_thread.max_queued},
+     *                                    or the service is shut down (no task was queued)
+     */
+    public <T> void executeEach(Collection<T> items, Consumer<? super T> action, Runnable done) {
+        reserve(items.size() + 1);
+        for (T item : items) {
+            queue.add(() -> action.accept(item));
+        }
+        queue.add(done);
+    }
+
+    /**
+     * Reserves room for tasks about to be queued.
+     *
+     * @throws RejectedExecutionException if they do not fit, or the service is shut down
+     */
+    private void reserve(int count) {
+        final int size = depth.addAndGet(count);
+        if (stopped || size > MainThreadConfig.getMaxQueued()) {
+            depth.addAndGet(-count);
+            if (rejected.getAndIncrement() % 1000 == 0) {
+                PluginLogger.warn(stopped
+                        ? "Main thread task queued after shutdown, rejecting it."
+                        : "Main thread queue is full (" + MainThreadConfig.getMaxQueued() + "), rejecting tasks.");
+            }
+            throw new RejectedExecutionException(stopped
+                    ? "Main thread service is shut down"
+                    : "Main thread queue is full (" + MainThreadConfig.getMaxQueued() + ")");
+        }
+        int max;
+        while (size > (max = maxDepth.get()) && !maxDepth.compareAndSet(max, size)) {
+            // retry
+        }
+    }
+
+    /**
+     * Checks whether the budget of the current tick is spent, for long-running tasks that split their work.
+     * Must be called from a task run by this service.
+     *
+     * @return {@code true} if the task should stop and queue the rest of its work
+     */
+    public boolean isBudgetSpent() {
+        return draining && System.nanoTime() - tickDeadline >= 0;
+    }
+
+    /**
+     * Runs queued tasks until the queue is empty or the tick budget is spent.
+     */
+    private void drain() {
+        if (queue.isEmpty()) return;
+
+        final long start = System.nanoTime();
+        final long deadline = start + MainThreadConfig.getBudgetNanos();
+        tickDeadline = deadline;
+        draining = true;
+        long now = start;
+        Runnable task;
+        while (now < deadline && (task = queue.poll()) != null) {
+            depth.decrementAndGet();
+            run(task);
+            now = System.nanoTime();
+        }
+        draining = false;
+
+        final long spent = now - start;
+        busyTicks++;
+        lastTickNanos = spent;
+        totalTickNanos += spent;
+        if (spent > maxTickNanos) maxTickNanos = spent;
+        if (!queue.isEmpty()) carriedTicks++;
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+            executed.incrementAndGet();
+        } catch (Throwable t) {
+            failed.incrementAndGet();
+            PluginLogger.error("Main thread task failed: " + t);
+        }
+    }
+
+    /**
+     * Stops the drain task and runs the remaining tasks without budget; tasks queued afterwards are rejected.
+     * <p>
+     * Call this once on plugin disable (server thread), after the last task was queued.
+     */
+    public void shutdown() {
+        drainTask.cancel();
+        stopped = true;
+        Runnable task;
+        while ((task = queue.poll()) != null) {
+            depth.decrementAndGet();
+            run(task);
+        }
+    }
+
+    /** @return tasks waiting for the server thread */
+    public int getQueueDepth() {
+        return depth.get();
+    }
+
+    /** @return highest number of tasks waiting at once */
+    public int getMaxQueueDepth() {
+        return maxDepth.get();
+    }
+
+    /** @return tasks run successfully */
+    public long getExecutedCount() {
+        return executed.get();
+    }
+
+    /** @return tasks that threw */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /** @return calls rejected (queue full or after shutdown) */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /** @return ticks where the budget was spent before the queue was empty */
+    public long getCarriedTickCount() {
+        return carriedTicks;
+    }
+
+    /** @return time spent during the last tick with work, in microseconds */
+    public long getLastTickMicros() {
+        return lastTickNanos / 1000;
+    }
+
+    /** @return longest time spent in a tick, in microseconds */
+    public long getMaxTickMicros() {
+        return maxTickNanos / 1000;
+    }
+
+    /** @return average time spent per tick with work, in microseconds */
+    public long getAverageTickMicros() {
+        final long ticks = busyTicks;
+        return ticks == 0 ? 0 : totalTickNanos / ticks / 1000;
+    }
+}
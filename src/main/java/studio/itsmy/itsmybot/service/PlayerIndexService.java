@@ -0,0 +1,185 @@
+package studio.itsmy.itsmybot.service;
+
+import studio.itsmy.itsmybot.ItsMyBotPlugin;
+import studio.itsmy.itsmybot.configuration.advanced.PlayerIndexConfig;
+import studio.itsmy.itsmybot.util.PluginLogger;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service indexing the players known by the server, by UUID.
+ * <p>
+ * {@link OfflinePlayer#hasPlayedBefore()} may read the player data file from disk. Bot requests address
+ * players by UUID, so this index answers "has this player ever joined?" from memory:
+ * <ul>
+ *   <li>warmed asynchronously at startup from the {@code playerdata} folder of the main world;</li>
+ *   <li>kept current by join/quit events;</li>
+ *   <li>unknown UUIDs are remembered (negative cache, up to {@code player_index.max_unknown}) until they join.</li>
+ * </ul>
+ * While warming, or if the main world has no {@code playerdata} folder, lookups missing from the index fall back
+ * to {@code hasPlayedBefore()} and record the answer.
+ *
+ * <h2>Thread-safety</h2>
+ * Lookups may happen from any thread.
+ */
+public class PlayerIndexService {
+
+    private final ItsMyBotPlugin plugin;
+
+    private final Set<UUID> known = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Boolean> unknown = new ConcurrentHashMap<>();
+    private volatile boolean warm;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong negativeHits = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    /**
+     * Creates a new {@code PlayerIndexService} and starts warming it asynchronously.
+     *
+     * @param plugin the main plugin instance
+     */
+    public PlayerIndexService(ItsMyBotPlugin plugin) {
+        this.plugin = plugin;
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            remember(player);
+        }
+
+        final List<World> worlds = plugin.getServer().getWorlds();
+        final File playerdata = worlds.isEmpty() ? null : new File(worlds.get(0).getWorldFolder(), "playerdata");
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> warm(playerdata));
+    }
+
+    /**
+     * Reads the known players from disk: a player data file exists for every player who joined.
+     * <p>
+     * Without a {@code playerdata} folder, the index is never considered warm.
+     */
+    private void warm(File playerdata) {
+        final long start = System.currentTimeMillis();
+        final String[] files = playerdata != null ? playerdata.list() : null;
+        if (files == null) {
+            PluginLogger.warn("No playerdata folder found, the player index will read player data for unknown players.");
+            return;
+        }
+
+        for (String file : files) {
+            if (!file.endsWith(".dat")) continue;
+            final UUID uuid = parse(file.substring(0, file.length() - 4));
+            if (uuid != null) add(uuid);
+        }
+
+        warm = true;
+        PluginLogger.info("Player index ready: " + known.size() + " known player(s) in "
+                + (System.currentTimeMillis() - start) + " ms.");
+    }
+
+    private void add(UUID uuid) {
+        known.add(uuid);
+        unknown.remove(uuid);
+    }
+
+    private static UUID parse(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Records a player seen online (join, quit).
+     *
+     * @param player the player
+     */
+    public void remember(Player player) {
+        add(player.getUniqueId());
+    }
+
+    /**
+     * Looks up a player who joined the server at least once.
+     *
+     * @param uuid player UUID
+     * @return the player, or {@code null} if they never joined
+     */
+    public OfflinePlayer find(UUID uuid) {
+        final Player online = plugin.getServer().getPlayer(uuid);
+        if (online != null) return online;
+
+        if (!PlayerIndexConfig.isEnabled()) {
+            final OfflinePlayer offline = plugin.getServer().getOfflinePlayer(uuid);
+            return offline != null && offline.hasPlayedBefore() ? offline : null;
+        }
+
+        if (known.contains(uuid)) {
+            hits.incrementAndGet();
+            return plugin.getServer().getOfflinePlayer(uuid);
+        }
+        if (unknown.containsKey(uuid)) {
+            negativeHits.incrementAndGet();
+            return null;
+        }
+
+        if (warm) {
+            rememberUnknown(uuid);
+            return null;
+        }
+
+        fallbacks.incrementAndGet();
+        final OfflinePlayer offline = plugin.getServer().getOfflinePlayer(uuid);
+        if (offline != null && offline.hasPlayedBefore()) {
+            add(uuid);
+            return offline;
+        }
+        rememberUnknown(uuid);
+        return null;
+    }
+
+    private void rememberUnknown(UUID uuid) {
+        if (unknown.size() >= PlayerIndexConfig.getMaxUnknown()) {
+            unknown.clear();
+        }
+        if (PlayerIndexConfig.getMaxUnknown() > 0) {
+            unknown.put(uuid, Boolean.TRUE);
+        }
+    }
+
+    /** @return {@code true} once the index was read from disk */
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /** @return number of known players */
+    public int getKnownCount() {
+        return known.size();
+    }
+
+    /** @return number of remembered unknown UUIDs */
+    public int getUnknownCount() {
+        return unknown.size();
+    }
+
+    /** @return lookups answered by a known player */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /** @return lookups answered by the negative cache */
+    public long getNegativeHitCount() {
+        return negativeHits.get();
+    }
+
+    /** @return lookups that read the player data while the index was not warm */
+    public long getFallbackCount() {
+        return fallbacks.get();
+    }
+}
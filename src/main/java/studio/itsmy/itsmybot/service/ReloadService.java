@@ -12,6 +12,7 @@ import studio.itsmy.itsmybot.util.PluginLogger;
  * <ul>
  *     <li>Reloads configuration files ({@code config.yml}, {@code messages.yml})</li>
  *     <li>Re-registers configuration values in {@link ConfigFactory}</li>
+ *     <li>Clears the placeholder cache and demoted expansions, whose rules may have changed</li>
  *     <li>Reconnects the WebSocket client</li>
  * </ul>
  */
@@ -43,6 +44,8 @@ public class ReloadService {
         try {
             filesManager.load();
             ConfigFactory.registerConfigs(filesManager.getConfigurationFile().getConfig());
+            plugin.getPlaceholderCache().clear();
+            plugin.getPlaceholderClassifier().clear();
 
             plugin.reloadWSClient();
         } catch (IllegalStateException e) {
@@ -0,0 +1,226 @@
+package studio.itsmy.itsmybot.service;
+
+import studio.itsmy.itsmybot.ItsMyBotPlugin;
+import studio.itsmy.itsmybot.util.TextFormatter;
+import studio.itsmy.itsmybot.ws.WSClient;
+import studio.itsmy.itsmybot.ws.codec.FrameChannel;
+import studio.itsmy.itsmybot.ws.handler.LogBatcher;
+import studio.itsmy.itsmybot.ws.handler.PlaceholderCache;
+import studio.itsmy.itsmybot.ws.handler.PlaceholderClassifier;
+import studio.itsmy.itsmybot.ws.handler.PlaceholderFlights;
+import studio.itsmy.itsmybot.ws.handler.PlaceholderSubscriptions;
+import studio.itsmy.itsmybot.ws.handler.role.LuckPermsSyncManager;
+import studio.itsmy.itsmybot.ws.handler.role.RoleFingerprints;
+import studio.itsmy.itsmybot.ws.handler.role.RoleSyncBatcher;
+import studio.itsmy.itsmybot.ws.handler.role.RoleSyncDebouncer;
+import studio.itsmy.itsmybot.ws.inbound.HandlerExecutor;
+import studio.itsmy.itsmybot.ws.inbound.InboundRegistry;
+import studio.itsmy.itsmybot.ws.outbound.LogSpool;
+import studio.itsmy.itsmybot.ws.outbound.OutboundQueue;
+import studio.itsmy.itsmybot.ws.request.PendingRequests;
+import studio.itsmy.itsmybot.ws.session.ResumableSession;
+import org.bukkit.command.CommandSender;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service collecting runtime statistics of the WebSocket link for the {@code /discord stats} command.
+ * <p>
+ * Each component exposes its own counters; this class only formats them.
+ */
+public class StatsService {
+
+    private final ItsMyBotPlugin plugin;
+
+    /**
+     * Creates a new {@code StatsService}.
+     *
+     * @param plugin the main plugin instance
+     */
+    public StatsService(ItsMyBotPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Builds the statistics lines (MiniMessage format).
+     *
+     * @return the lines to display
+     */
+    public List<String> collect() {
+        final List<String> lines = new ArrayList<>();
+        final WSClient client = plugin.getWSClient();
+
+        lines.add("<#5865F2>ItsMyBot statistics</#5865F2>");
+        lines.add(line("WebSocket", "ready=" + client.isReady()
+                + ", circuit=" + client.getReconnectPolicy().getState()
+                + ", failures=" + client.getReconnectPolicy().getConsecutiveFailures()));
+
+        final OutboundQueue outbound = client.getOutboundQueue();
+        lines.add(line("Outbound", "queued=" + outbound.getQueuedCount()
+                + ", sent=" + outbound.getSentCount()
+                + ", dropped=" + outbound.getDroppedCount()
+                + ", spilled=" + outbound.getSpilledCount()
+                + ", pauses=" + outbound.getPauseCount()));
+
+        final ResumableSession session = client.getSession();
+        lines.add(line("Session", "id=" + session.getSessionId()
+                + ", last-seq=" + session.getLastInboundSeq()
+                + ", replay-buffer=" + session.getReplayBufferSize()
+                + ", replay-evicted=" + session.getReplayDroppedCount()));
+
+        final FrameChannel channel = client.getChannel();
+        lines.add(line("Traffic", "compression=" + (channel.getCompressor().isActive() ? "on" : "off")
+                + ", out=" + channel.getWireOutBytes() + "/" + channel.getPayloadOutBytes()
+                + " (" + ratio(channel.getWireOutBytes(), channel.getPayloadOutBytes()) + ")"
+                + ", in=" + channel.getWireInBytes() + "/" + channel.getPayloadInBytes()
+                + " (" + ratio(channel.getWireInBytes(), channel.getPayloadInBytes()) + ")"
+                + ", errors=" + channel.getErrorCount()));
+
+        final LogSpool spool = plugin.getLogService().getSpool();
+        if (spool != null) {
+            lines.add(line("Log spool", "bytes=" + spool.getTotalBytes()
+                    + ", spooled=" + spool.getSpooledCount()
+                    + ", pending-writes=" + spool.getPendingAppendCount()
+                    + ", drained=" + spool.getDrainedCount()
+                    + ", backlog=" + spool.hasBacklog()
+                    + ", discarded-segments=" + spool.getDiscardedSegmentCount()
+                    + ", rejected=" + spool.getRejectedCount()));
+        }
+
+        final LogBatcher batcher = plugin.getLogService().getBatcher();
+        if (batcher != null) {
+            lines.add(line("Log batches", "sent=" + batcher.getBatchCount()
+                    + ", events=" + batcher.getEventCount()));
+        }
+
+        final HandlerExecutor handlers = client.getHandlerExecutor();
+        lines.add(line("Handlers", "threads=" + (handlers.isVirtual() ? "virtual" : "platform")
+                + ", active=" + handlers.getActiveCount()
+                + ", queued=" + handlers.getQueuedCount()
+                + ", completed=" + handlers.getCompletedCount()
+                + ", rejected=" + handlers.getRejectedCount()
+                + ", wait-avg=" + handlers.getAverageQueueMicros() + "us"
+                + ", wait-max=" + handlers.getMaxQueueMicros() + "us"));
+
+        final MainThreadService mainThread = plugin.getMainThreadService();
+        lines.add(line("Main thread", "queued=" + mainThread.getQueueDepth()
+                + ", max-queued=" + mainThread.getMaxQueueDepth()
+                + ", executed=" + mainThread.getExecutedCount()
+                + ", failed=" + mainThread.getFailedCount()
+                + ", rejected=" + mainThread.getRejectedCount()
+                + ", tick-last=" + mainThread.getLastTickMicros() + "us"
+                + ", tick-avg=" + mainThread.getAverageTickMicros() + "us"
+                + ", tick-max=" + mainThread.getMaxTickMicros() + "us"
+                + ", carried-ticks=" + mainThread.getCarriedTickCount()));
+
+        final InboundRegistry inbound = client.getInboundRegistry();
+        for (String type : inbound.getTypes()) {
+            final InboundRegistry.Registration<?> registration = inbound.get(type);
+            if (registration == null) continue;
+            lines.add(line("Inbound " + type, "mode=" + registration.getMode()
+                    + ", handled=" + registration.getHandledCount()
+                    + ", failed=" + registration.getFailedCount()
+                    + ", dropped=" + registration.getDroppedCount()
+                    + ", backlog=" + registration.getBacklogSize()));
+        }
+
+        final PlayerIndexService playerIndex = plugin.getPlayerIndexService();
+        lines.add(line("Player index", "ready=" + playerIndex.isWarm()
+                + ", known=" + playerIndex.getKnownCount()
+                + ", unknown=" + playerIndex.getUnknownCount()
+                + ", hits=" + playerIndex.getHitCount()
+                + ", negative-hits=" + playerIndex.getNegativeHitCount()
+                + ", disk-fallbacks=" + playerIndex.getFallbackCount()));
+
+        final PlaceholderCache placeholderCache = plugin.getPlaceholderCache();
+        lines.add(line("Placeholder cache", "size=" + placeholderCache.size()
+                + ", hits=" + placeholderCache.getHitCount()
+                + ", misses=" + placeholderCache.getMissCount()
+                + ", evictions=" + placeholderCache.getEvictionCount()
+                + ", templates=" + plugin.getPlaceholderTemplates().size()
+                + " (compiled=" + plugin.getPlaceholderTemplates().getCompiledCount()
+                + ", reused=" + plugin.getPlaceholderTemplates().getHitCount() + ")"));
+
+        final PlaceholderClassifier classifier = plugin.getPlaceholderClassifier();
+        lines.add(line("Placeholder threads", "async=" + classifier.getAsyncCount()
+                + ", main=" + classifier.getMainCount()
+                + ", demoted=" + classifier.getDemotedCount()));
+
+        final PlaceholderFlights flights = plugin.getPlaceholderFlights();
+        lines.add(line("Placeholder flights", "in-flight=" + flights.size()
+                + ", resolutions=" + flights.getLedCount()
+                + ", coalesced=" + flights.getCoalescedCount()
+                + ", expired=" + flights.getExpiredCount()));
+
+        final PlaceholderSubscriptions subscriptions = plugin.getPlaceholderSubscriptions();
+        if (subscriptions != null) {
+            lines.add(line("Placeholder subscriptions", "subscriptions=" + subscriptions.size()
+                    + ", values=" + subscriptions.getValueCount()
+                    + ", evaluated=" + subscriptions.getEvaluatedCount()
+                    + ", changed=" + subscriptions.getChangedCount()
+                    + ", updates=" + subscriptions.getUpdateCount()
+                    + ", failed=" + subscriptions.getFailedCount()));
+        }
+
+        final RoleSyncBatcher roleSyncBatcher = plugin.getRoleSyncBatcher();
+        if (roleSyncBatcher != null) {
+            lines.add(line("Role sync batches", "pending=" + roleSyncBatcher.getPendingCount()
+                    + ", batches=" + roleSyncBatcher.getBatchCount()
+                    + ", players=" + roleSyncBatcher.getPlayerCount()));
+        }
+
+        final RoleSyncDebouncer roleSyncDebouncer = plugin.getRoleSyncDebouncer();
+        if (roleSyncDebouncer != null) {
+            lines.add(line("Role sync updates", "pending=" + roleSyncDebouncer.getPendingCount()
+                    + ", sent=" + roleSyncDebouncer.getSentCount()
+                    + ", coalesced=" + roleSyncDebouncer.getCoalescedCount()));
+        }
+
+        final RoleFingerprints roleFingerprints = plugin.getRoleFingerprints();
+        if (roleFingerprints != null) {
+            lines.add(line("Role fingerprints", "players=" + roleFingerprints.size()
+                    + ", fingerprint-only=" + roleFingerprints.getMatchedCount()
+                    + ", unchanged=" + roleFingerprints.getUnchangedCount()));
+        }
+
+        final LuckPermsSyncManager lpSyncManager = plugin.getLpSyncManager();
+        if (lpSyncManager != null) {
+            lines.add(line("Expected role changes", "tracked=" + lpSyncManager.getExpectedCount()
+                    + ", expired=" + lpSyncManager.getExpiredCount()
+                    + ", group-fanouts=" + lpSyncManager.getFanOutCount()));
+        }
+
+        final PendingRequests requests = client.getPendingRequests();
+        lines.add(line("Requests", "in-flight=" + requests.getInFlightCount()
+                + ", completed=" + requests.getCompletedCount()
+                + ", timed-out=" + requests.getTimedOutCount()));
+
+        return lines;
+    }
+
+    /**
+     * Sends the statistics to a command sender (player or console).
+     *
+     * @param sender the recipient
+     */
+    public void send(CommandSender sender) {
+        for (String line : collect()) {
+            sender.sendMessage(TextFormatter.legacy(line));
+        }
+    }
+
+    /**
+     * Formats a single {@code label: values} line.
+     */
+    private static String line(String label, String values) {
+        return "<#E0E3FF> • <#5865F2>" + label + "</#5865F2>: " + values + "</#E0E3FF>";
+    }
+
+    /**
+     * Formats a wire/payload byte ratio as a percentage.
+     */
+    private static String ratio(long wire, long payload) {
+        return payload == 0 ? "-" : (wire * 100 / payload) + "%";
+    }
+}
@@ -4,12 +4,32 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import studio.itsmy.itsmybot.ItsMyBotPlugin;
+import studio.itsmy.itsmybot.configuration.advanced.InboundConfig;
+import studio.itsmy.itsmybot.configuration.advanced.RequestConfig;
+import studio.itsmy.itsmybot.configuration.advanced.SessionConfig;
 import studio.itsmy.itsmybot.configuration.essential.WSConfig;
 import studio.itsmy.itsmybot.util.PluginLogger;
+import studio.itsmy.itsmybot.ws.codec.FrameChannel;
+import studio.itsmy.itsmybot.ws.handler.PlaceholderSubscriptions;
 import studio.itsmy.itsmybot.ws.handler.PlaceholderUtil;
 import studio.itsmy.itsmybot.ws.handler.role.RoleSyncUtil;
+import studio.itsmy.itsmybot.ws.inbound.HandlerExecutor;
+import studio.itsmy.itsmybot.ws.inbound.InboundRegistry;
+import studio.itsmy.itsmybot.ws.inbound.ThreadingMode;
+import studio.itsmy.itsmybot.ws.message.InboundMessage;
+import studio.itsmy.itsmybot.ws.message.MessageReader;
+import studio.itsmy.itsmybot.ws.message.PlaceholderBatchRequest;
+import studio.itsmy.itsmybot.ws.message.PlaceholderRequest;
+import studio.itsmy.itsmybot.ws.message.PlaceholderSubscribeMessage;
+import studio.itsmy.itsmybot.ws.message.SyncRoleMessage;
+import studio.itsmy.itsmybot.ws.outbound.OutboundQueue;
+import studio.itsmy.itsmybot.ws.reconnect.ReconnectPolicy;
+import studio.itsmy.itsmybot.ws.request.PendingRequests;
+import studio.itsmy.itsmybot.ws.session.ResumableSession;
 import okhttp3.*;
+import okio.ByteString;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -20,7 +40,7 @@ import javax.net.ssl.X509TrustManager;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
 import java.util.Date;
-import java.util.Map;
+import java.util.List;
 import java.util.concurrent.*;
 
 /**
@@ -30,17 +50,23 @@ import java.util.concurrent.*;
  * <ul>
  *   <li>Secure connection (WSS) with optional trust-all strategy for self-signed certificates</li>
  *   <li>JWT-based authentication on {@link #onOpen(WebSocket, Response)}</li>
- *   <li>Automatic reconnection with backoff (fixed rate) when failures occur</li>
- *   <li>Request/response correlation via {@code id} and {@link CompletableFuture}</li>
- *   <li>Dispatching of server messages to domain handlers (role sync, placeholder)</li>
+ *   <li>Automatic reconnection with jittered exponential backoff and a circuit breaker ({@link ReconnectPolicy})</li>
+ *   <li>Request/response correlation via {@code id} and {@link CompletableFuture}, with timeouts swept
+ *       by a hashed timing wheel ({@link PendingRequests})</li>
+ *   <li>Bounded outbound pipeline with backpressure via {@link OutboundQueue}</li>
+ *   <li>Optional session resume with sequence numbers and replay ({@link ResumableSession})</li>
+ *   <li>Optional payload compression negotiated during authentication ({@link FrameChannel})</li>
+ *   <li>Dispatching of server messages through the {@link InboundRegistry} (auth, role sync, placeholder and
+ *       third-party types); typed messages are streamed without building a JSON tree ({@link MessageReader})</li>
  * </ul>
  *
  * <h2>Lifecycle</h2>
  * <ol>
  *   <li>{@link #connect()} establishes a new connection and requests auth.</li>
- *   <li>On {@link #onOpen(WebSocket, Response)}, a short-lived JWT is created and sent.</li>
- *   <li>On {@code AUTH_SUCCESS}, the client becomes {@code authenticated} and {@link #isReady()} returns true.</li>
- *   <li>On any failure/close, {@link #scheduleReconnect()} triggers periodic attempts (if {@code shouldReconnect}).</li>
+ *   <li>On {@link #onOpen(WebSocket, Response)}, a short-lived JWT is created and sent, either in a fresh
+ *       {@code AUTH} or, if a resumable session exists, in a {@code RESUME}.</li>
+ *   <li>On {@code AUTH_SUCCESS}, the client becomes {@code authenticated}, the circuit closes and {@link #isReady()} returns true.</li>
+ *   <li>On any failure/close, {@link #scheduleReconnect()} schedules the next attempt (if {@code shouldReconnect}).</li>
  *   <li>{@link #disconnect()} stops reconnection and closes the socket.</li>
  *   <li>{@link #shutdown()} releases executors and OkHttp resources.</li>
  * </ol>
@@ -51,7 +77,9 @@ import java.util.concurrent.*;
  * In production, prefer a properly signed certificate and a strict {@link HostnameVerifier}.
  *
  * <h2>Thread-safety</h2>
- * - Pending requests are stored in a {@link ConcurrentHashMap}.<br>
+ * - Pending requests are stored in {@link PendingRequests} (concurrent table + timing wheel).<br>
+ * - Outgoing frames are written by a single writer thread owned by {@link OutboundQueue}.<br>
+ * - The OkHttp reader thread only decodes inbound frames; feature handlers run on the {@link HandlerExecutor}.<br>
  * - Reconnect scheduling is guarded by {@code synchronized} methods ({@link #scheduleReconnect()}, {@link #cancelReconnect()}).
  * - Connection state flags ({@code connected}, {@code authenticated}) are {@code volatile}.
  */
@@ -59,20 +87,41 @@ public class WSClient extends WebSocketListener {
 
     private final ItsMyBotPlugin plugin;
 
-    /** In-flight request futures, keyed by correlation id. */
-    private final Map<String, CompletableFuture<JsonObject>> pendingRequests = new ConcurrentHashMap<>();
+    /** In-flight requests, keyed by correlation id. */
+    private final PendingRequests pendingRequests = new PendingRequests();
 
-    /** Single-thread scheduler for timeouts and reconnect attempts. */
+    /** Single-thread scheduler for the timeout wheel and reconnect attempts. */
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
 
     /** JSON codec. */
     private final Gson gson = new Gson();
 
-    private WebSocket webSocket;
+    /** Streaming binder of typed inbound messages. */
+    private final MessageReader messageReader = new MessageReader(gson);
+
+    /** Threads of the asynchronous inbound handlers, keeping the reader thread free. */
+    private final HandlerExecutor handlerExecutor;
+
+    /** Handlers of inbound message types. */
+    private final InboundRegistry inboundRegistry;
+
+    /** Outbound pipeline; only drains while the client is {@link #isReady() ready}. */
+    private final OutboundQueue outboundQueue = new OutboundQueue(() -> isReady() ? this.webSocket : null);
+
+    private volatile WebSocket webSocket;
     private final OkHttpClient client;
     private ScheduledFuture<?> reconnectTask;
     private volatile boolean shouldReconnect;
 
+    /** Backoff and circuit breaker state of reconnection attempts. */
+    private final ReconnectPolicy reconnectPolicy = new ReconnectPolicy();
+
+    /** Sequence numbers and replay buffer of the session-resume protocol. */
+    private final ResumableSession session = new ResumableSession();
+
+    /** Negotiated wire format (compression) and per-direction byte counters. */
+    private final FrameChannel channel = new FrameChannel();
+
     private volatile boolean connected = false;
     private volatile boolean authenticated = false;
 
@@ -85,15 +134,81 @@ public class WSClient extends WebSocketListener {
         this.plugin = plugin;
         this.client = createClientAllowingSelfSigned();
         this.shouldReconnect = false;
+        this.handlerExecutor = new HandlerExecutor(InboundConfig.isVirtualThreads(), InboundConfig.getThreads(),
+                InboundConfig.getMaxPending());
+        this.inboundRegistry = new InboundRegistry(handlerExecutor,
+                task -> plugin.getMainThreadService().execute(task), InboundConfig.getMaxBacklog());
+        registerBuiltinHandlers();
+        this.outboundQueue.setFrameStamper(payload -> session.stamp(payload, SessionConfig.getReplayBufferSize()));
+        this.outboundQueue.setFrameWriter(channel::send);
+        this.outboundQueue.start();
+        this.scheduler.scheduleAtFixedRate(pendingRequests::tick,
+                PendingRequests.TICK_MS, PendingRequests.TICK_MS, TimeUnit.MILLISECONDS);
+        this.scheduler.scheduleAtFixedRate(this::sendPendingAck,
+                SessionConfig.getAckIntervalMs(), SessionConfig.getAckIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Registers the handlers of the protocol and built-in features.
+     * <p>
+     * Protocol messages run inline on the reader thread: they are cheap and update connection state
+     * that the following frames depend on. Feature messages run on the {@link HandlerExecutor};
+     * role syncs one at a time, as they are deltas that must be applied in order.
+     */
+    private void registerBuiltinHandlers() {
+        inboundRegistry.register("AUTH_SUCCESS", JsonObject.class, ThreadingMode.IO, json -> handleAuthResponse(json, "AUTH_SUCCESS"));
+        inboundRegistry.register("AUTH_FAIL", JsonObject.class, ThreadingMode.IO, json -> handleAuthResponse(json, "AUTH_FAIL"));
+        inboundRegistry.register("RESUME_SUCCESS", JsonObject.class, ThreadingMode.IO, json -> handleResumeResponse(webSocket, json, "RESUME_SUCCESS"));
+        inboundRegistry.register("RESUME_FAIL", JsonObject.class, ThreadingMode.IO, json -> handleResumeResponse(webSocket, json, "RESUME_FAIL"));
+        inboundRegistry.register("ACK", JsonObject.class, ThreadingMode.IO, json -> {
+            // the piggy-backed ack was already applied
+        });
+        inboundRegistry.register(SyncRoleMessage.TYPE, SyncRoleMessage.class, ThreadingMode.ASYNC, 1,
+                message -> RoleSyncUtil.handleSyncRole(plugin, message));
+        inboundRegistry.register(PlaceholderRequest.TYPE, PlaceholderRequest.class, ThreadingMode.ASYNC,
+                request -> PlaceholderUtil.handlePlaceholderRequest(plugin, request));
+        inboundRegistry.register(PlaceholderBatchRequest.TYPE, PlaceholderBatchRequest.class, ThreadingMode.ASYNC,
+                request -> PlaceholderUtil.handlePlaceholderBatch(plugin, request));
+        inboundRegistry.register(PlaceholderSubscribeMessage.TYPE, PlaceholderSubscribeMessage.class, ThreadingMode.IO,
+                message -> plugin.getPlaceholderSubscriptions().subscribe(message));
+        inboundRegistry.register(PlaceholderSubscribeMessage.UNSUBSCRIBE_TYPE, PlaceholderSubscribeMessage.class, ThreadingMode.IO,
+                message -> plugin.getPlaceholderSubscriptions().unsubscribe(message));
+    }
+
+    /**
+     * Gets the registry of inbound message handlers.
+     *
+     * @return the inbound registry
+     */
+    public InboundRegistry getInboundRegistry() {
+        return inboundRegistry;
+    }
+
+    /**
+     * Gets the executor of the asynchronous inbound handlers.
+     *
+     * @return the handler executor
+     */
+    public HandlerExecutor getHandlerExecutor() {
+        return handlerExecutor;
     }
 
     /**
-     * Indicates whether the client is both connected and authenticated.
+     * Indicates whether the client is both connected and authenticated, with a closed circuit.
      *
-     * @return {@code true} if the WebSocket is open and JWT auth succeeded
+     * @return {@code true} if the WebSocket is open, JWT auth succeeded and the circuit is {@code CLOSED}
      */
     public boolean isReady() {
-        return connected && authenticated;
+        return connected && authenticated && reconnectPolicy.getState() == ReconnectPolicy.CircuitState.CLOSED;
+    }
+
+    /**
+     * Gets the reconnection policy (circuit state, failure count).
+     *
+     * @return the reconnect policy
+     */
+    public ReconnectPolicy getReconnectPolicy() {
+        return reconnectPolicy;
     }
 
     /**
@@ -127,18 +242,24 @@ public class WSClient extends WebSocketListener {
                 .url("wss://" + WSConfig.getHost() + ":" + WSConfig.getPort())
                 .build();
 
+        reconnectPolicy.onAttempt();
         client.newWebSocket(request, this);
     }
 
     /**
      * Explicitly disconnects the WebSocket and disables automatic reconnection.
      * <p>
-     * Resets {@code connected/authenticated} flags and cancels any scheduled reconnect task.
+     * Flushes queued frames if the socket is ready, resets {@code connected/authenticated} flags
+     * and cancels any scheduled reconnect task.
      */
     public void disconnect() {
         shouldReconnect = false;
         cancelReconnect();
 
+        if (isReady()) {
+            outboundQueue.flush(webSocket);
+        }
+
         this.connected = false;
         this.authenticated = false;
 
@@ -149,95 +270,215 @@ public class WSClient extends WebSocketListener {
     }
 
     /**
-     * Shuts down internal resources (scheduler and OkHttp executor/connection pool).
+     * Shuts down internal resources (writer thread, scheduler, handler threads and OkHttp executor/connection pool).
      * <p>
      * Call this once on plugin disable to avoid thread leaks.
      */
     public void shutdown() {
+        outboundQueue.stop();
+        pendingRequests.failAll(new CancellationException("WebSocket client shut down"));
+
         if (scheduler != null && !scheduler.isShutdown()) {
             scheduler.shutdownNow();
         }
 
         cancelReconnect();
+        handlerExecutor.shutdown();
 
         if (client != null) {
             client.dispatcher().executorService().shutdownNow();
             client.connectionPool().evictAll();
         }
+        channel.close();
     }
 
     /**
      * Called by OkHttp when a connection is established.
      * <p>
      * Sets {@code connected}, clears any pending reconnect, logs success,
-     * and sends a short-lived JWT auth message to the server.
+     * and sends a short-lived JWT to the server: in a {@code RESUME} message if session resume is enabled
+     * and a session exists, in a fresh {@code AUTH} message otherwise.
      */
     @Override
     public void onOpen(WebSocket webSocket, @NotNull Response response) {
         this.webSocket = webSocket;
         this.connected = true;
         this.authenticated = false;
+        channel.reset();
         cancelReconnect();
 
         PluginLogger.info("WebSocket connection established.");
 
-        final String token = JWT.create()
+        final String sessionId = session.getSessionId();
+        if (SessionConfig.isResumeEnabled() && sessionId != null) {
+            sendResume(webSocket, sessionId);
+        } else {
+            sendAuth(webSocket);
+        }
+    }
+
+    /**
+     * Creates a short-lived JWT identifying this server.
+     *
+     * @return the signed token
+     */
+    private String createToken() {
+        return JWT.create()
                 .withClaim("server_id", WSConfig.getServerId())
                 .withExpiresAt(new Date(System.currentTimeMillis() + 5 * 60 * 1000))
                 .sign(Algorithm.HMAC256(WSConfig.getJwtSecret()));
+    }
 
-        final String authMessage = String.format(
-                "{\"type\": \"AUTH\", \"token\": \"%s\", \"server_id\": \"%s\"}",
-                token, WSConfig.getServerId()
-        );
+    /**
+     * Sends a fresh {@code AUTH} message.
+     * <p>
+     * The message carries the requested wire options (see {@link FrameChannel#offer(JsonObject)}); they are
+     * used only if the server echoes them back in {@code AUTH_SUCCESS}.
+     *
+     * @param webSocket the socket
+     */
+    private void sendAuth(WebSocket webSocket) {
+        final JsonObject auth = new JsonObject();
+        auth.addProperty("type", "AUTH");
+        auth.addProperty("token", createToken());
+        auth.addProperty("server_id", WSConfig.getServerId());
+        channel.offer(auth);
+
+        webSocket.send(gson.toJson(auth));
+    }
 
-        webSocket.send(authMessage);
+    /**
+     * Sends a {@code RESUME} message carrying the last inbound sequence number seen.
+     *
+     * @param webSocket the socket
+     * @param sessionId session to resume
+     */
+    private void sendResume(WebSocket webSocket, String sessionId) {
+        final JsonObject resume = new JsonObject();
+        resume.addProperty("type", "RESUME");
+        resume.addProperty("session_id", sessionId);
+        resume.addProperty("last_seq", session.getLastInboundSeq());
+        resume.addProperty("token", createToken());
+        resume.addProperty("server_id", WSConfig.getServerId());
+        channel.offer(resume);
+
+        webSocket.send(gson.toJson(resume));
     }
 
     /**
      * Called when a text message is received from the server.
      * <p>
-     * Routes messages by {@code type} to feature handlers (auth, role sync, placeholder).
-     * If an {@code id} is present and corresponds to a pending request, the associated future is completed.
+     * The {@code type} is peeked first: types registered with an {@link InboundMessage} class are streamed
+     * straight into it, other messages are parsed into a tree and go through {@link #handleMessage(JsonObject)}.
      *
      * @param webSocket the socket
      * @param text      raw JSON text
      */
     @Override
     public void onMessage(@NotNull WebSocket webSocket, @NotNull String text) {
-        final JsonObject json = gson.fromJson(text, JsonObject.class);
-        final String type = json.get("type").getAsString();
+        channel.onText(text);
+        dispatchText(text);
+    }
+
+    /**
+     * Dispatches the JSON text of a frame.
+     *
+     * @param text raw JSON text
+     */
+    private void dispatchText(String text) {
+        final String type = MessageReader.peekType(text);
+        final InboundRegistry.Registration<?> registration = inboundRegistry.get(type);
+        if (registration != null && registration.isStreamable()) {
+            try {
+                dispatchStreamed(registration, text);
+            } catch (JsonParseException e) {
+                PluginLogger.warn("Received malformed " + type + " message: " + e.getMessage());
+            }
+            return;
+        }
+
+        handleMessage(gson.fromJson(text, JsonObject.class));
+    }
+
+    /**
+     * Streams a frame into the message class of its registration, then dispatches it.
+     *
+     * @param registration registration of an {@link InboundMessage} type
+     * @param text         JSON text
+     */
+    private <T> void dispatchStreamed(InboundRegistry.Registration<T> registration, String text) {
+        final T message = registration.bind(messageReader, text);
+        final InboundMessage envelope = (InboundMessage) message;
+        if (acceptSequence(envelope.getSeq(), envelope.getAck())) {
+            registration.dispatch(message);
+        }
+    }
+
+    /**
+     * Applies the session envelope of an inbound frame.
+     *
+     * @param seq sequence number, or {@code null}
+     * @param ack piggy-backed acknowledgement, or {@code null}
+     * @return {@code false} if the frame is a duplicate replayed by the server
+     */
+    private boolean acceptSequence(@Nullable Long seq, @Nullable Long ack) {
+        if (ack != null) {
+            session.acknowledge(ack);
+        }
+        return seq == null || session.onInbound(seq);
+    }
+
+    /**
+     * Called when a binary message is received from the server: compressed JSON text, inflated then
+     * dispatched like a text message.
+     *
+     * @param webSocket the socket
+     * @param bytes     binary frame
+     */
+    @Override
+    public void onMessage(@NotNull WebSocket webSocket, @NotNull ByteString bytes) {
+        final String text = channel.decode(bytes);
+        if (text == null) {
+            PluginLogger.warn("Received an invalid binary message (" + bytes.size() + " bytes).");
+            return;
+        }
+        dispatchText(text);
+    }
+
+    /**
+     * Dispatches a decoded frame.
+     * <p>
+     * Routes messages by {@code type} to their registered handler (see {@link InboundRegistry}).
+     * If an {@code id} is present and corresponds to a pending request, the associated future is completed.
+     *
+     * @param json decoded frame
+     */
+    private void handleMessage(JsonObject json) {
+        if (!acceptSequence(json.has("seq") ? json.get("seq").getAsLong() : null,
+                json.has("ack") ? json.get("ack").getAsLong() : null)) {
+            return; // duplicate replayed by the server
+        }
+
+        final String type = json.has("type") ? json.get("type").getAsString() : null;
         final String id = json.has("id") ? json.get("id").getAsString() : null;
         boolean handled = false;
 
-        switch (type) {
-            case "AUTH_SUCCESS":
-            case "AUTH_FAIL":
-                handleAuthResponse(json, type);
-                handled = true;
-                break;
-            case "SYNC_ROLE":
-                RoleSyncUtil.handleSyncRole(plugin, json);
-                handled = true;
-                break;
-            case "PLACEHOLDER":
-                PlaceholderUtil.handlePlaceholderRequest(plugin, json);
-                handled = true;
-                break;
-            default:
-                break;
+        final InboundRegistry.Registration<?> registration = inboundRegistry.get(type);
+        if (registration != null) {
+            try {
+                registration.dispatch(messageReader, json);
+            } catch (JsonParseException e) {
+                PluginLogger.warn("Received malformed " + type + " message: " + e.getMessage());
+            }
+            handled = true;
         }
 
-        if (id != null) {
-            final CompletableFuture<JsonObject> future = pendingRequests.remove(id);
-            if (future != null) {
-                future.complete(json);
-                handled = true;
-            }
+        if (id != null && pendingRequests.complete(id, json)) {
+            handled = true;
         }
 
         if (!handled) {
-            PluginLogger.warn("Received unhandled message: " + text);
+            PluginLogger.warn("Received unhandled message: " + json);
         }
     }
 
@@ -251,6 +492,18 @@ public class WSClient extends WebSocketListener {
      */
     private void handleAuthResponse(JsonObject json, String type) {
         if (type.equals("AUTH_SUCCESS")) {
+            if (SessionConfig.isResumeEnabled() && json.has("session_id")) {
+                session.start(json.get("session_id").getAsString());
+            } else {
+                session.reset();
+            }
+            channel.negotiate(json);
+
+            // a new session starts without subscriptions, the bot subscribes again
+            final PlaceholderSubscriptions subscriptions = plugin.getPlaceholderSubscriptions();
+            if (subscriptions != null) subscriptions.clear();
+
+            reconnectPolicy.onSuccess();
             this.authenticated = true;
             PluginLogger.info("Authentication successful. WebSocket is ready for use.");
         } else if (type.equals("AUTH_FAIL")) {
@@ -263,8 +516,74 @@ public class WSClient extends WebSocketListener {
         }
     }
 
+    /**
+     * Handles session resume responses ({@code RESUME_SUCCESS}/{@code RESUME_FAIL}).
+     * <p>
+     * On success, replays the frames the server did not acknowledge <em>before</em> marking the client
+     * authenticated, so that they precede any newly queued frame. On failure, falls back to a fresh {@code AUTH}.
+     *
+     * @param webSocket the socket
+     * @param json      resume payload
+     * @param type      response type
+     */
+    private void handleResumeResponse(WebSocket webSocket, JsonObject json, String type) {
+        if (type.equals("RESUME_FAIL")) {
+            PluginLogger.warn("Session resume rejected, authenticating a new session.");
+            session.reset();
+            sendAuth(webSocket);
+            return;
+        }
+
+        final long ack = json.has("ack") ? json.get("ack").getAsLong() : 0;
+        if (session.hasGap(ack)) {
+            PluginLogger.warn("Replay buffer overflowed during the outage; some messages could not be replayed.");
+        }
+
+        channel.negotiate(json);
+        final List<String> frames = session.framesAfter(ack);
+        for (String frame : frames) {
+            channel.send(webSocket, frame);
+        }
+
+        reconnectPolicy.onSuccess();
+        this.authenticated = true;
+        PluginLogger.info("Session resumed, " + frames.size() + " message(s) replayed.");
+    }
+
+    /**
+     * Sends an explicit {@code ACK} frame if inbound frames were received since the last ack
+     * and no outbound frame carried it.
+     */
+    private void sendPendingAck() {
+        final WebSocket socket = webSocket;
+        if (socket == null || !isReady()) return;
+        final long ack = session.pendingAck();
+        if (ack < 0) return;
+        channel.send(socket, "{\"type\":\"ACK\",\"ack\":" + ack + "}");
+    }
+
+    /**
+     * Gets the wire format of the connection (for metrics).
+     *
+     * @return the frame channel
+     */
+    public FrameChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Gets the resumable session state (for metrics).
+     *
+     * @return the session
+     */
+    public ResumableSession getSession() {
+        return session;
+    }
+
     /**
      * Sends a JSON response (server-initiated request handling) optionally binding the given {@code id}.
+     * <p>
+     * The response goes through the {@link OutboundQueue} priority lane.
      *
      * @param response JSON payload to send
      * @param id       correlation id to attach (added if missing and non-null)
@@ -274,15 +593,7 @@ public class WSClient extends WebSocketListener {
         if (id != null && !response.has("id")) {
             response.addProperty("id", id);
         }
-        if (webSocket == null) {
-            PluginLogger.error("WebSocket is not connected; cannot send response: " + response);
-            return;
-        }
-        try {
-            webSocket.send(gson.toJson(response));
-        } catch (Exception ex) {
-            PluginLogger.error("Failed to send WebSocket response: " + ex.getMessage());
-        }
+        sendMessage(response);
     }
 
     /**
@@ -334,13 +645,45 @@ public class WSClient extends WebSocketListener {
 
     /**
      * Sends a raw JSON string to the server (fire-and-forget).
+     * <p>
+     * The frame is queued in the priority lane with the default overflow policy;
+     * prefer {@link #sendMessage(JsonObject)} so the {@code type} can be taken into account.
      *
      * @param json raw JSON text
      */
     public void sendMessage(String json) {
-        if (webSocket != null) {
-            webSocket.send(json);
-        }
+        outboundQueue.offer(null, json);
+    }
+
+    /**
+     * Sends a JSON message to the server (fire-and-forget).
+     * <p>
+     * The {@code type} field selects the {@link OutboundQueue} lane and overflow policy.
+     *
+     * @param message JSON payload
+     * @return {@code false} if the frame was dropped by the outbound queue
+     */
+    public boolean sendMessage(JsonObject message) {
+        final String type = message.has("type") ? message.get("type").getAsString() : null;
+        return outboundQueue.offer(type, gson.toJson(message));
+    }
+
+    /**
+     * Gets the pending request table (for metrics).
+     *
+     * @return the pending requests
+     */
+    public PendingRequests getPendingRequests() {
+        return pendingRequests;
+    }
+
+    /**
+     * Gets the outbound pipeline (for metrics).
+     *
+     * @return the outbound queue
+     */
+    public OutboundQueue getOutboundQueue() {
+        return outboundQueue;
     }
 
     /**
@@ -399,9 +742,10 @@ public class WSClient extends WebSocketListener {
     /**
      * Sends a request expecting a response correlated by {@code id}.
      * <p>
-     * The {@code id} is added to the outgoing message, a future is registered in {@link #pendingRequests},
-     * and a timeout (5s) is scheduled. When a matching response arrives in {@link #onMessage(WebSocket, String)},
-     * the future completes successfully; otherwise it completes exceptionally on timeout.
+     * The {@code id} is added to the outgoing message and a future is registered in {@link #pendingRequests}
+     * with the timeout configured for the message {@code type} (see {@link RequestConfig}). When a matching
+     * response arrives in {@link #onMessage(WebSocket, String)}, the future completes successfully and its
+     * timeout is cancelled; otherwise it completes exceptionally on timeout.
      *
      * @param message request payload (will be mutated to include {@code id})
      * @param id      correlation id (must be unique per request)
@@ -410,25 +754,21 @@ public class WSClient extends WebSocketListener {
     public CompletableFuture<JsonObject> sendRequest(JsonObject message, String id) {
         message.addProperty("id", id);
 
-        final CompletableFuture<JsonObject> future = new CompletableFuture<>();
-        pendingRequests.put(id, future);
-
-        scheduler.schedule(() -> {
-            if (!future.isDone()) {
-                future.completeExceptionally(new TimeoutException("Timeout while waiting for response: " + id));
-                pendingRequests.remove(id);
-            }
-        }, 5, TimeUnit.SECONDS);
+        final String type = message.has("type") ? message.get("type").getAsString() : null;
+        final CompletableFuture<JsonObject> future = pendingRequests.register(id, RequestConfig.getTimeoutMs(type));
 
-        sendMessage(message.toString());
-        future.whenComplete((res, ex) -> pendingRequests.remove(id));
+        if (!sendMessage(message)) {
+            pendingRequests.fail(id, new RejectedExecutionException("Outbound queue is full: " + id));
+        }
 
         return future;
     }
 
     /**
-     * Schedules periodic reconnection attempts (every 30 seconds) if not already scheduled
-     * and reconnection is enabled.
+     * Schedules the next reconnection attempt if not already scheduled and reconnection is enabled.
+     * <p>
+     * The delay comes from {@link ReconnectPolicy#onFailure()}: the first retry is near-immediate,
+     * later ones back off exponentially with jitter up to the configured cap.
      */
     private synchronized void scheduleReconnect() {
         if (!shouldReconnect) {
@@ -437,8 +777,15 @@ public class WSClient extends WebSocketListener {
         if (reconnectTask != null && !reconnectTask.isDone()) {
             return;
         }
-        PluginLogger.warn("Failed to connect to WebSocket server. Reconnecting in 30 seconds...");
-        reconnectTask = scheduler.scheduleAtFixedRate(this::connect, 30, 30, TimeUnit.SECONDS);
+
+        final ReconnectPolicy.CircuitState previousState = reconnectPolicy.getState();
+        final long delay = reconnectPolicy.onFailure();
+        if (previousState == ReconnectPolicy.CircuitState.CLOSED && reconnectPolicy.getState() == ReconnectPolicy.CircuitState.OPEN) {
+            PluginLogger.error("WebSocket server unreachable after " + reconnectPolicy.getConsecutiveFailures()
+                    + " attempts. Bot features are disabled until the connection is restored.");
+        }
+        PluginLogger.warn("Failed to connect to WebSocket server. Reconnecting in " + delay + " ms...");
+        reconnectTask = scheduler.schedule(this::connect, delay, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -9,6 +9,7 @@ import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Executor responsible for sending WebSocket requests on behalf of players and handling responses.
@@ -18,7 +19,8 @@ import java.util.UUID;
  * <ul>
  *   <li>Properly built and enriched with required fields ({@code id}, {@code server_id})</li>
  *   <li>Sent asynchronously to avoid blocking the main server thread</li>
- *   <li>Handled gracefully on success or failure (back on the main thread)</li>
+ *   <li>Handled gracefully on success or failure (back on the main thread, through the
+ *       {@link studio.itsmy.itsmybot.service.MainThreadService}, or the Bukkit scheduler if its queue is full)</li>
  * </ul>
  *
  * <p>The {@link WSCommandHandler} implementation is responsible for:
@@ -66,7 +68,7 @@ public class WSCommandExecutor {
 
         // If WebSocket is not connected or authenticated, notify player on main thread
         if (client == null || !client.isReady()) {
-            Bukkit.getScheduler().runTask(plugin, () -> Messages.BOT_NOT_CONNECTED.send(player));
+            runOnMainThread(() -> Messages.BOT_NOT_CONNECTED.send(player));
             return;
         }
 
@@ -85,15 +87,31 @@ public class WSCommandExecutor {
         // Send the request asynchronously to avoid blocking the main thread
         Bukkit.getScheduler().runTaskAsynchronously(plugin, () ->
                 client.sendRequest(message, message.get("id").getAsString())
-                        .thenAccept(response -> Bukkit.getScheduler().runTask(plugin, () ->
+                        .thenAccept(response -> runOnMainThread(() ->
                                 handler.handleResponse(player, response)
                         ))
                         .exceptionally(ex -> {
-                            Bukkit.getScheduler().runTask(plugin, () ->
+                            runOnMainThread(() ->
                                     handler.handleError(player, ex)
                             );
                             return null;
                         })
         );
     }
+
+    /**
+     * Runs a task on the main thread.
+     * <p>
+     * Commands are answered even when the {@link studio.itsmy.itsmybot.service.MainThreadService} rejects
+     * the task: player commands are few, so the task falls back to its own scheduler task.
+     */
+    private void runOnMainThread(Runnable task) {
+        try {
+            plugin.getMainThreadService().execute(task);
+        } catch (RejectedExecutionException e) {
+            if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, task);
+            }
+        }
+    }
 }
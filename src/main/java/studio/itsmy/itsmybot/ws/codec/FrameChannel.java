@@ -0,0 +1,194 @@
+package studio.itsmy.itsmybot.ws.codec;
+
+import com.google.gson.JsonObject;
+import studio.itsmy.itsmybot.configuration.advanced.CompressionConfig;
+import studio.itsmy.itsmybot.util.PluginLogger;
+import studio.itsmy.itsmybot.ws.compression.FrameCompressor;
+import okhttp3.WebSocket;
+import okio.ByteString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wire format of the current connection: JSON text, optionally compressed by the {@link FrameCompressor}.
+ * <p>
+ * Compression is negotiated during authentication: {@link #offer(JsonObject)} adds the requested option
+ * ({@code compression}) to {@code AUTH}/{@code RESUME}, and {@link #negotiate(JsonObject)} applies whatever
+ * the server echoed back. Until then, and after {@link #reset()}, frames are plain JSON text frames.
+ *
+ * <h2>Frames</h2>
+ * <ul>
+ *   <li>Uncompressed: text frame.</li>
+ *   <li>Compressed (active and at least {@code compression.min_bytes} long): binary frame holding the
+ *       zlib-compressed UTF-8 JSON text.</li>
+ * </ul>
+ * Inbound binary frames are inflated back to JSON text, so they are dispatched like text frames (typed
+ * messages are streamed without building a tree).
+ * <p>
+ * Byte counters are kept per direction: {@code payload} is the size of the UTF-8 JSON text before
+ * compression, {@code wire} the size actually sent or received.
+ *
+ * <h2>Thread-safety</h2>
+ * The compressor is thread-safe; counters are atomic.
+ */
+public class FrameChannel {
+
+    private final FrameCompressor compressor = new FrameCompressor();
+
+    private final AtomicLong payloadOut = new AtomicLong();
+    private final AtomicLong wireOut = new AtomicLong();
+    private final AtomicLong payloadIn = new AtomicLong();
+    private final AtomicLong wireIn = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    /**
+     * Goes back to plain JSON text frames, typically when a new connection opens.
+     */
+    public void reset() {
+        compressor.deactivate();
+    }
+
+    /**
+     * Releases the compressor, once the connection is shut down for good.
+     */
+    public void close() {
+        compressor.close();
+    }
+
+    /**
+     * Adds the configured wire options to an {@code AUTH} or {@code RESUME} message.
+     *
+     * @param message authentication message
+     */
+    public void offer(JsonObject message) {
+        if (CompressionConfig.isEnabled()) {
+            message.addProperty("compression", FrameCompressor.ALGORITHM);
+        }
+    }
+
+    /**
+     * Applies the wire options accepted by the server in {@code AUTH_SUCCESS}/{@code RESUME_SUCCESS}.
+     *
+     * @param response authentication response
+     */
+    public void negotiate(JsonObject response) {
+        if (CompressionConfig.isEnabled() && response.has("compression")
+                && FrameCompressor.ALGORITHM.equals(response.get("compression").getAsString())) {
+            compressor.activate(CompressionConfig.getLevel(), CompressionConfig.getMinBytes());
+            PluginLogger.info("Payload compression enabled (" + FrameCompressor.ALGORITHM + ").");
+        }
+    }
+
+    /**
+     * Sends a JSON frame in the negotiated wire format.
+     *
+     * @param webSocket target socket
+     * @param json      JSON text
+     * @return the result of {@link WebSocket#send}
+     */
+    public boolean send(WebSocket webSocket, String json) {
+        if (!compressor.isActive() || json.length() < compressor.getMinBytes()) {
+            return sendText(webSocket, json);
+        }
+
+        final byte[] data = json.getBytes(StandardCharsets.UTF_8);
+        payloadOut.addAndGet(data.length);
+        final byte[] compressed = compressor.compress(data);
+        wireOut.addAndGet(compressed.length);
+        return webSocket.send(ByteString.of(compressed));
+    }
+
+    private boolean sendText(WebSocket webSocket, String json) {
+        final long size = utf8Length(json);
+        payloadOut.addAndGet(size);
+        wireOut.addAndGet(size);
+        return webSocket.send(json);
+    }
+
+    /**
+     * Records the size of an inbound text frame.
+     *
+     * @param text JSON text
+     */
+    public void onText(String text) {
+        final long size = utf8Length(text);
+        payloadIn.addAndGet(size);
+        wireIn.addAndGet(size);
+    }
+
+    /**
+     * Inflates an inbound binary frame back to JSON text.
+     * <p>
+     * Uncompressed binary frames are taken as UTF-8 JSON text.
+     *
+     * @param bytes binary frame
+     * @return the JSON text, or {@code null} if the frame is invalid (or inflates beyond
+     *         {@code compression.max_inflated_bytes})
+     */
+    public String decode(ByteString bytes) {
+        byte[] data = bytes.toByteArray();
+        wireIn.addAndGet(data.length);
+
+        if (FrameCompressor.isCompressed(data)) {
+            data = compressor.decompress(data, CompressionConfig.getMaxInflatedBytes());
+            if (data == null) {
+                errors.incrementAndGet();
+                return null;
+            }
+        }
+        payloadIn.addAndGet(data.length);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Computes the UTF-8 encoded length of a string without encoding it.
+     */
+    private static long utf8Length(String text) {
+        long length = 0;
+        for (int i = 0, size = text.length(); i < size; i++) {
+            final char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < size && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /** @return the compressor */
+    public FrameCompressor getCompressor() {
+        return compressor;
+    }
+
+    /** @return JSON bytes handed to the socket, before compression */
+    public long getPayloadOutBytes() {
+        return payloadOut.get();
+    }
+
+    /** @return bytes actually sent */
+    public long getWireOutBytes() {
+        return wireOut.get();
+    }
+
+    /** @return JSON bytes received, after decompression */
+    public long getPayloadInBytes() {
+        return payloadIn.get();
+    }
+
+    /** @return bytes actually received */
+    public long getWireInBytes() {
+        return wireIn.get();
+    }
+
+    /** @return inbound frames that could not be decompressed */
+    public long getErrorCount() {
+        return errors.get();
+    }
+}
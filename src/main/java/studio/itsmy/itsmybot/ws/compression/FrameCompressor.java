@@ -0,0 +1,169 @@
+package studio.itsmy.itsmybot.ws.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Application-level compression of WebSocket frames, negotiated during authentication.
+ * <p>
+ * Once {@link #activate(int, int) activated}, encoded frames of at least {@code min_bytes} are compressed
+ * into zlib streams sent as <em>binary</em> frames. Every message is compressed independently, with a
+ * preset {@link #DICTIONARY} made of the keys and values that appear in most messages, so even small
+ * frames compress well and replayed frames never depend on previous ones. The zlib header carries the
+ * dictionary id (Adler-32), so the peer can check it uses the same dictionary.
+ * <p>
+ * A zlib stream always starts with {@code 0x78}, which a JSON object never does,
+ * so {@link #isCompressed(byte[])} tells compressed frames apart.
+ * <p>
+ * Inflated frames are capped ({@code compression.max_inflated_bytes}): a stream inflating beyond the cap is
+ * rejected as corrupt instead of being inflated in memory.
+ * <p>
+ * The native zlib streams are released by {@link #close()}; the compressor cannot be used afterwards.
+ *
+ * <h2>Thread-safety</h2>
+ * Compression, decompression and {@link #close()} are {@code synchronized}.
+ *
+ * @see studio.itsmy.itsmybot.ws.codec.FrameChannel
+ */
+public class FrameCompressor {
+
+    /** Algorithm name exchanged in {@code AUTH}/{@code AUTH_SUCCESS}. */
+    public static final String ALGORITHM = "deflate";
+
+    /**
+     * Preset dictionary shared with the bot. Most frequent strings last, as deflate favours close matches.
+     * <strong>Changing it breaks compatibility with the bot.</strong>
+     */
+    public static final byte[] DICTIONARY = (
+            "\"details\":{\"message\":\"command\":\"ip\":\"error\":\"reason\":\"roles\":[\"ROLE_SYNC_SUCCESS\""
+                    + "\"ROLE_SYNC_FAIL\"\"SYNC_ROLE\"\"ROLE_SYNC_UPDATE\"\"FULL_ROLE_SYNC\"\"PLACEHOLDER_ERROR\""
+                    + "\"PLACEHOLDER_RESULT\",\"value\":\"PLACEHOLDER\",\"placeholder\":\"player_uuid\":\""
+                    + "\"PLAYER_COMMAND\"\"PLAYER_JOIN\"\"PLAYER_LEAVE\",\"player_name\":\"uuid\":\"timestamp\":\""
+                    + "\"LOG_BATCH\",\"logs\":[{\"log_type\":\"{\"type\":\"LOG\",\"server_id\":\"{\"seq\":\"ack\":\"id\":\""
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    private final Inflater inflater = new Inflater();
+    private final byte[] deflateBuffer = new byte[BUFFER_SIZE];
+    private final byte[] inflateBuffer = new byte[BUFFER_SIZE];
+
+    private volatile boolean active;
+    private volatile int minBytes;
+    private boolean closed;
+
+    /**
+     * Enables compression of outbound frames for the current connection.
+     *
+     * @param level    deflate level (1-9)
+     * @param minBytes frames shorter than this are sent uncompressed
+     */
+    public synchronized void activate(int level, int minBytes) {
+        deflater.setLevel(level);
+        this.minBytes = minBytes;
+        this.active = true;
+    }
+
+    /**
+     * Disables compression of outbound frames, typically when a new connection opens.
+     */
+    public void deactivate() {
+        this.active = false;
+    }
+
+    /**
+     * Checks whether outbound frames are compressed.
+     *
+     * @return {@code true} if compression was negotiated on the current connection
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Gets the size under which frames are sent uncompressed.
+     *
+     * @return the size in bytes
+     */
+    public int getMinBytes() {
+        return minBytes;
+    }
+
+    /**
+     * Checks whether a binary frame is a zlib stream.
+     *
+     * @param data frame bytes
+     * @return {@code true} if the frame starts with a valid zlib header
+     */
+    public static boolean isCompressed(byte[] data) {
+        return data.length > 1 && (data[0] & 0xff) == 0x78 && ((data[0] & 0xff) << 8 | (data[1] & 0xff)) % 31 == 0;
+    }
+
+    /**
+     * Compresses a frame with the preset dictionary.
+     *
+     * @param input encoded frame
+     * @return the zlib stream
+     * @throws IllegalStateException if the compressor is closed
+     */
+    public synchronized byte[] compress(byte[] input) {
+        if (closed) throw new IllegalStateException("Frame compressor closed");
+        deflater.reset();
+        deflater.setDictionary(DICTIONARY);
+        deflater.setInput(input);
+        deflater.finish();
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, input.length / 4));
+        while (!deflater.finished()) {
+            final int count = deflater.deflate(deflateBuffer);
+            output.write(deflateBuffer, 0, count);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Decompresses a zlib stream produced with the preset dictionary.
+     *
+     * @param input    zlib stream
+     * @param maxBytes maximum size of the encoded frame
+     * @return the encoded frame, or {@code null} if the stream is truncated, corrupt, uses another dictionary,
+     *         inflates beyond {@code maxBytes} or the compressor is closed
+     */
+    public synchronized byte[] decompress(byte[] input, int maxBytes) {
+        if (closed) return null;
+        inflater.reset();
+        inflater.setInput(input);
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream((int) Math.min(maxBytes, input.length * 4L));
+        try {
+            while (!inflater.finished()) {
+                final int count = inflater.inflate(inflateBuffer);
+                if (count == 0) {
+                    if (!inflater.needsDictionary()) return null; // truncated stream
+                    inflater.setDictionary(DICTIONARY);
+                    continue;
+                }
+                if (output.size() + count > maxBytes) return null; // inflates too much
+                output.write(inflateBuffer, 0, count);
+            }
+        } catch (DataFormatException | IllegalArgumentException e) {
+            return null; // corrupt stream or dictionary mismatch
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Releases the native zlib streams. Further compressions fail and decompressions return {@code null}.
+     */
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        active = false;
+        deflater.end();
+        inflater.end();
+    }
+}
@@ -0,0 +1,145 @@
+package studio.itsmy.itsmybot.ws.handler;
+
+import com.google.gson.JsonPrimitive;
+import studio.itsmy.itsmybot.ItsMyBotPlugin;
+import studio.itsmy.itsmybot.configuration.advanced.LogBatchConfig;
+import studio.itsmy.itsmybot.configuration.essential.WSConfig;
+import studio.itsmy.itsmybot.ws.WSClient;
+import studio.itsmy.itsmybot.ws.outbound.LogSpool;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Groups log events into {@code LOG_BATCH} frames.
+ * <p>
+ * Events are serialized once when added, without the fields shared by every log ({@code type},
+ * {@code server_id}), which are hoisted into the batch header. A batch is flushed when it reaches
+ * {@code log_batch.max_events} events or {@code log_batch.max_bytes} bytes, or by the periodic
+ * {@link #flush()} every {@code log_batch.max_delay_ms}.
+ *
+ * <h2>Frame</h2>
+ * <pre>{@code
+ * {
+ *   "type": "LOG_BATCH",
+ *   "server_id": "...",
+ *   "logs": [
+ *     { "log_type": "PLAYER_COMMAND", "timestamp": "...", "uuid": "...", "player_name": "...", "details": {...} },
+ *     ...
+ *   ]
+ * }
+ * }</pre>
+ * If the batch cannot be queued (client not ready, outbound queue full), its events are written
+ * to the {@link LogSpool} as individual {@code LOG} frames, or dropped if there is no spool.
+ *
+ * <h2>Thread-safety</h2>
+ * {@link #add(String)} and {@link #flush()} may be called from any thread.
+ */
+public class LogBatcher {
+
+    /** Message type of a batch frame. */
+    public static final String TYPE = "LOG_BATCH";
+
+    private final ItsMyBotPlugin plugin;
+    private final LogSpool spool;
+
+    private List<String> pending = new ArrayList<>();
+    private int pendingBytes;
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong events = new AtomicLong();
+
+    /**
+     * Creates a new batcher.
+     *
+     * @param plugin main plugin instance
+     * @param spool  fallback spool for batches that cannot be queued (nullable)
+     */
+    public LogBatcher(ItsMyBotPlugin plugin, @Nullable LogSpool spool) {
+        this.plugin = plugin;
+        this.spool = spool;
+    }
+
+    /**
+     * Adds a serialized log entry (a JSON object without {@code type} and {@code server_id}).
+     *
+     * @param entry serialized entry
+     */
+    public void add(String entry) {
+        final List<String> full;
+        synchronized (this) {
+            pending.add(entry);
+            pendingBytes += entry.length() + 1;
+            if (pending.size() < LogBatchConfig.getMaxEvents() && pendingBytes < LogBatchConfig.getMaxBytes()) {
+                return;
+            }
+            full = takePending();
+        }
+        send(full);
+    }
+
+    /**
+     * Sends the pending events, if any.
+     */
+    public void flush() {
+        final List<String> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) return;
+            batch = takePending();
+        }
+        send(batch);
+    }
+
+    private List<String> takePending() {
+        final List<String> batch = pending;
+        pending = new ArrayList<>(batch.size());
+        pendingBytes = 0;
+        return batch;
+    }
+
+    /**
+     * Builds the batch frame and queues it, falling back to the spool.
+     */
+    private void send(List<String> entries) {
+        final String serverId = new JsonPrimitive(WSConfig.getServerId()).toString();
+
+        int size = 64 + serverId.length();
+        for (String entry : entries) {
+            size += entry.length() + 1;
+        }
+
+        final StringBuilder frame = new StringBuilder(size)
+                .append("{\"type\":\"").append(TYPE).append("\",\"server_id\":").append(serverId)
+                .append(",\"logs\":[");
+        for (int i = 0; i < entries.size(); i++) {
+            if (i > 0) frame.append(',');
+            frame.append(entries.get(i));
+        }
+        frame.append("]}");
+
+        final WSClient client = plugin.getWSClient();
+        if (client.isReady() && client.getOutboundQueue().tryOffer(TYPE, frame.toString())) {
+            batches.incrementAndGet();
+            events.addAndGet(entries.size());
+            return;
+        }
+
+        if (spool != null) {
+            for (String entry : entries) {
+                spool.append(LogWSHandler.toFrame(serverId, entry));
+            }
+        }
+    }
+
+    /** @return total batch frames queued */
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    /** @return total events sent in batch frames */
+    public long getEventCount() {
+        return events.get();
+    }
+}
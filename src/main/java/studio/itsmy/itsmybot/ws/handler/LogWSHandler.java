@@ -1,12 +1,14 @@
 package studio.itsmy.itsmybot.ws.handler;
 
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 import studio.itsmy.itsmybot.ItsMyBotPlugin;
 import studio.itsmy.itsmybot.configuration.essential.WSConfig;
 import studio.itsmy.itsmybot.enumeration.LogType;
 import studio.itsmy.itsmybot.util.PluginLogger;
 import studio.itsmy.itsmybot.ws.WSClient;
 import studio.itsmy.itsmybot.ws.handler.command.WSCommandHandler;
+import studio.itsmy.itsmybot.ws.outbound.LogSpool;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.Nullable;
 
@@ -27,10 +29,36 @@ import java.util.UUID;
  *   <li>No request building via player input (throws {@link UnsupportedOperationException})</li>
  *   <li>No response handling (logs are fire-and-forget)</li>
  *   <li>Error handling simply logs a message to the console</li>
+ *   <li>While the bot is unreachable, logs are written to an optional {@link LogSpool} instead of being lost</li>
+ *   <li>When a {@link LogBatcher} is set, logs are grouped into {@code LOG_BATCH} frames</li>
  * </ul>
  */
 public class LogWSHandler implements WSCommandHandler {
 
+    /** Disk spool used while the client is not ready (nullable). */
+    private final LogSpool spool;
+
+    /** Batcher grouping logs into {@code LOG_BATCH} frames (nullable). */
+    private final LogBatcher batcher;
+
+    /**
+     * Creates a log handler without disk spool nor batching.
+     */
+    public LogWSHandler() {
+        this(null, null);
+    }
+
+    /**
+     * Creates a log handler.
+     *
+     * @param spool   disk spool receiving logs while the client is not ready, or {@code null} to drop them
+     * @param batcher batcher grouping logs into {@code LOG_BATCH} frames, or {@code null} to send them one by one
+     */
+    public LogWSHandler(@Nullable LogSpool spool, @Nullable LogBatcher batcher) {
+        this.spool = spool;
+        this.batcher = batcher;
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -77,6 +105,11 @@ public class LogWSHandler implements WSCommandHandler {
     /**
      * Sends a structured log event to the WebSocket server.
      * <p>
+     * If the client is not ready, or older logs are still waiting in the spool (to keep ordering),
+     * the event is appended to the {@link LogSpool} instead. Otherwise, it is handed to the
+     * {@link LogBatcher} when batching is enabled, where {@code server_id} and {@code type} are
+     * hoisted into the batch header.
+     * <p>
      * The JSON message includes:
      * <ul>
      *   <li>{@code server_id}: server identifier from {@link WSConfig}</li>
@@ -95,21 +128,43 @@ public class LogWSHandler implements WSCommandHandler {
      * @param details    additional data describing the event
      */
     public void sendLog(ItsMyBotPlugin plugin, LogType logType, @Nullable UUID playerUuid, @Nullable String playerName, JsonObject details) {
-        final JsonObject message = new JsonObject();
-        message.addProperty("server_id", WSConfig.getServerId());
-        message.addProperty("type", getType());
-        message.addProperty("log_type", logType.name());
-        message.addProperty("timestamp", Instant.now().toString());
+        final JsonObject entry = new JsonObject();
+        entry.addProperty("log_type", logType.name());
+        entry.addProperty("timestamp", Instant.now().toString());
 
         if (playerUuid != null) {
-            message.addProperty("uuid", playerUuid.toString());
+            entry.addProperty("uuid", playerUuid.toString());
         }
         if (playerName != null) {
-            message.addProperty("player_name", playerName);
+            entry.addProperty("player_name", playerName);
         }
 
-        message.add("details", details);
+        entry.add("details", details);
 
-        plugin.getWSClient().sendMessage(message.toString());
+        final String serialized = entry.toString();
+        final String serverId = new JsonPrimitive(WSConfig.getServerId()).toString();
+        final WSClient client = plugin.getWSClient();
+        if (spool != null && (!client.isReady() || spool.hasBacklog())) {
+            if (batcher != null) {
+                batcher.flush(); // spools the pending batch first, keeping the order
+            }
+            if (spool.append(toFrame(serverId, serialized))) return;
+        }
+        if (batcher != null) {
+            batcher.add(serialized);
+            return;
+        }
+        client.getOutboundQueue().offer(getType(), toFrame(serverId, serialized));
+    }
+
+    /**
+     * Turns a serialized log entry into a standalone {@code LOG} frame by prepending the shared fields.
+     *
+     * @param serverId serialized (quoted) server identifier
+     * @param entry    serialized entry, a non-empty JSON object
+     * @return the {@code LOG} frame
+     */
+    static String toFrame(String serverId, String entry) {
+        return "{\"server_id\":" + serverId + ",\"type\":\"LOG\"," + entry.substring(1);
     }
 }
@@ -0,0 +1,139 @@
+package studio.itsmy.itsmybot.ws.handler;
+
+import studio.itsmy.itsmybot.configuration.advanced.PlaceholderCacheConfig;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of resolved placeholder values, keyed by (placeholder, player).
+ * <p>
+ * Each placeholder has its own time-to-live ({@link PlaceholderCacheConfig#getTtlMs(String)}); placeholders
+ * with a TTL of {@code 0} are never cached. Beyond {@code placeholder_cache.max_entries} values, the least
+ * recently used are evicted.
+ * <p>
+ * Hits are served from the thread handling the request, without waiting for the server thread.
+ *
+ * <h2>Thread-safety</h2>
+ * Entries are guarded by the cache monitor; TTL lookups and counters are lock-free.
+ */
+public class PlaceholderCache {
+
+    /** Upper bound of memoized TTL lookups, cleared when reached. */
+    private static final int MAX_TTL_LOOKUPS = 4096;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, Long> ttlByPlaceholder = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Gets a cached value.
+     *
+     * @param placeholder raw placeholder string
+     * @param playerUuid  player UUID string, or {@code null} for a server-wide value
+     * @return the value, or {@code null} if absent, expired or not cacheable
+     */
+    public String get(String placeholder, String playerUuid) {
+        if (!PlaceholderCacheConfig.isEnabled() || ttlOf(placeholder) == 0) return null;
+
+        final String key = key(placeholder, playerUuid);
+        synchronized (this) {
+            final Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+                hits.incrementAndGet();
+                return entry.value;
+            }
+            if (entry != null) entries.remove(key);
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Caches a resolved value, if its placeholder has a TTL.
+     *
+     * @param placeholder raw placeholder string
+     * @param playerUuid  player UUID string, or {@code null} for a server-wide value
+     * @param value       resolved value
+     */
+    public void put(String placeholder, String playerUuid, String value) {
+        if (!PlaceholderCacheConfig.isEnabled() || value == null) return;
+        final long ttl = ttlOf(placeholder);
+        if (ttl == 0) return;
+
+        final Entry entry = new Entry(value, System.currentTimeMillis() + ttl);
+        final int maxEntries = PlaceholderCacheConfig.getMaxEntries();
+        synchronized (this) {
+            entries.put(key(placeholder, playerUuid), entry);
+            final Iterator<Entry> eldest = entries.values().iterator();
+            while (entries.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Drops all values and memoized TTLs, typically after a configuration reload.
+     */
+    public void clear() {
+        synchronized (this) {
+            entries.clear();
+        }
+        ttlByPlaceholder.clear();
+    }
+
+    private long ttlOf(String placeholder) {
+        final Long ttl = ttlByPlaceholder.get(placeholder);
+        if (ttl != null) return ttl;
+
+        final long resolved = PlaceholderCacheConfig.getTtlMs(placeholder);
+        if (ttlByPlaceholder.size() >= MAX_TTL_LOOKUPS) ttlByPlaceholder.clear();
+        ttlByPlaceholder.put(placeholder, resolved);
+        return resolved;
+    }
+
+    static String key(String placeholder, String playerUuid) {
+        return playerUuid == null ? placeholder : playerUuid + '\u0000' + placeholder;
+    }
+
+    /** @return number of cached values */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** @return lookups answered from the cache */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /** @return lookups of cacheable placeholders that had to be resolved */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /** @return values evicted because the cache was full */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * A cached value and its expiry.
+     */
+    private static final class Entry {
+        private final String value;
+        private final long expiresAt;
+
+        private Entry(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package studio.itsmy.itsmybot.ws.handler;
+
+import studio.itsmy.itsmybot.configuration.advanced.PlaceholderAsyncConfig;
+import studio.itsmy.itsmybot.util.PluginLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which placeholders may be resolved outside the server thread.
+ * <p>
+ * A placeholder string is async-safe when every {@code %identifier_params%} token it contains matches
+ * {@code placeholder_async.placeholders}, either exactly or through a pattern ending with {@code *}.
+ * Placeholders are listed one by one rather than by expansion, as most expansions mix thread-safe
+ * placeholders with placeholders reading game state. Strings without any token are static and always safe.
+ * <p>
+ * When learning is enabled, a token that fails outside the server thread is demoted: it goes back to the
+ * server thread until the next reload.
+ *
+ * <h2>Thread-safety</h2>
+ * All methods may be called from any thread.
+ */
+public class PlaceholderClassifier {
+
+    private final Set<String> demoted = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong asyncCount = new AtomicLong();
+    private final AtomicLong mainCount = new AtomicLong();
+
+    /**
+     * Checks whether a placeholder string may be resolved outside the server thread.
+     *
+     * @param placeholder raw placeholder string
+     * @return {@code true} if async-safe
+     */
+    public boolean isAsyncSafe(String placeholder) {
+        if (!PlaceholderAsyncConfig.isEnabled()) return false;
+
+        final Set<String> safe = PlaceholderAsyncConfig.getPlaceholders();
+        for (String token : tokensOf(placeholder)) {
+            if (!matches(safe, token) || demoted.contains(token)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a token is listed, exactly or through a pattern ending with {@code *}.
+     */
+    private static boolean matches(Set<String> patterns, String token) {
+        if (patterns.contains(token)) return true;
+        for (String pattern : patterns) {
+            if (pattern.endsWith("*") && token.startsWith(pattern.substring(0, pattern.length() - 1))) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records a placeholder resolved outside the server thread.
+     */
+    public void recordAsync() {
+        asyncCount.incrementAndGet();
+    }
+
+    /**
+     * Records a placeholder sent to the server thread.
+     */
+    public void recordMain() {
+        mainCount.incrementAndGet();
+    }
+
+    /**
+     * Handles a failed asynchronous resolution, demoting the tokens involved if learning is enabled.
+     *
+     * @param placeholder raw placeholder string
+     * @param cause       the failure
+     */
+    public void demote(String placeholder, Throwable cause) {
+        if (!PlaceholderAsyncConfig.isLearn()) return;
+
+        for (String token : tokensOf(placeholder)) {
+            if (demoted.add(token)) {
+                PluginLogger.warn("Placeholder '" + token + "' failed outside the server thread ("
+                        + cause + "), it will be resolved on the server thread until the next reload.");
+            }
+        }
+    }
+
+    /**
+     * Forgets demoted placeholders, typically after a configuration reload.
+     */
+    public void clear() {
+        demoted.clear();
+    }
+
+    /**
+     * Extracts the {@code %identifier_params%} tokens of a string, lower-case and without {@code %}.
+     */
+    private static List<String> tokensOf(String placeholder) {
+        final List<String> tokens = new ArrayList<>(1);
+        int start = placeholder.indexOf('%');
+        while (start >= 0) {
+            final int end = placeholder.indexOf('%', start + 1);
+            if (end < 0) break;
+
+            tokens.add(placeholder.substring(start + 1, end).toLowerCase());
+            start = placeholder.indexOf('%', end + 1);
+        }
+        return tokens;
+    }
+
+    /** @return placeholders resolved outside the server thread */
+    public long getAsyncCount() {
+        return asyncCount.get();
+    }
+
+    /** @return placeholders sent to the server thread */
+    public long getMainCount() {
+        return mainCount.get();
+    }
+
+    /** @return number of placeholders demoted since the last reload */
+    public int getDemotedCount() {
+        return demoted.size();
+    }
+}
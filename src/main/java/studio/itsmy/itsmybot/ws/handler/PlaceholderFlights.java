@@ -0,0 +1,109 @@
+package studio.itsmy.itsmybot.ws.handler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Placeholder resolutions in flight, keyed by (placeholder, player).
+ * <p>
+ * When the bot sends several identical {@code PLACEHOLDER} requests at once (e.g. many users clicking
+ * the same button), only the first one resolves the placeholder; the others join its flight and are
+ * answered with the same result, each under its own request id.
+ * <p>
+ * A flight older than {@value #MAX_AGE_MS} ms is considered lost (its leader never completed it): the
+ * next identical request takes it over, and answers its waiting requests too.
+ *
+ * <h2>Thread-safety</h2>
+ * All methods may be called from any thread.
+ */
+public class PlaceholderFlights {
+
+    /** Age after which a flight is taken over by the next identical request. */
+    public static final long MAX_AGE_MS = 30000;
+
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+
+    private final AtomicLong led = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+
+    /**
+     * Joins the flight of a (placeholder, player) pair, starting it if none is in flight.
+     *
+     * @param placeholder raw placeholder string
+     * @param playerUuid  player UUID string (nullable)
+     * @param requestId   id of the request to answer
+     * @return the flight if the caller leads it and must resolve the placeholder, then
+     *         {@link #complete(Flight)} it; {@code null} if another request leads it
+     */
+    public Flight join(String placeholder, String playerUuid, String requestId) {
+        final long now = System.nanoTime();
+        final Flight[] led = new Flight[1];
+        flights.compute(PlaceholderCache.key(placeholder, playerUuid), (key, flight) -> {
+            if (flight == null || now - flight.started > TimeUnit.MILLISECONDS.toNanos(MAX_AGE_MS)) {
+                final Flight started = new Flight(key, now);
+                if (flight != null) {
+                    started.waiting.addAll(flight.waiting);
+                    expired.incrementAndGet();
+                }
+                led[0] = started;
+                flight = started;
+            }
+            flight.waiting.add(requestId);
+            return flight;
+        });
+
+        (led[0] != null ? this.led : coalesced).incrementAndGet();
+        return led[0];
+    }
+
+    /**
+     * Ends a flight. Requests arriving afterwards start a new flight. Completing a flight again, or a
+     * flight taken over by another request, returns no request.
+     *
+     * @param flight the flight led by the caller
+     * @return the ids of the requests to answer, leader included
+     */
+    public List<String> complete(Flight flight) {
+        return flights.remove(flight.key, flight) ? flight.waiting : Collections.<String>emptyList();
+    }
+
+    /** @return number of flights in progress */
+    public int size() {
+        return flights.size();
+    }
+
+    /** @return resolutions started */
+    public long getLedCount() {
+        return led.get();
+    }
+
+    /** @return requests answered by another request's resolution */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /** @return flights taken over after {@link #MAX_AGE_MS} */
+    public long getExpiredCount() {
+        return expired.get();
+    }
+
+    /**
+     * A resolution in flight and the requests waiting for it.
+     */
+    public static final class Flight {
+        private final String key;
+        private final long started;
+        private final List<String> waiting = new ArrayList<>(1);
+
+        private Flight(String key, long started) {
+            this.key = key;
+            this.started = started;
+        }
+    }
+}
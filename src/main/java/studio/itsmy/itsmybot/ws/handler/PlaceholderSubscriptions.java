@@ -0,0 +1,366 @@
+package studio.itsmy.itsmybot.ws.handler;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import studio.itsmy.itsmybot.ItsMyBotPlugin;
+import studio.itsmy.itsmybot.configuration.advanced.PlaceholderSubscriptionConfig;
+import studio.itsmy.itsmybot.configuration.essential.WSConfig;
+import studio.itsmy.itsmybot.util.PluginLogger;
+import studio.itsmy.itsmybot.ws.WSClient;
+import studio.itsmy.itsmybot.ws.message.PlaceholderSubscribeMessage;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Placeholder subscriptions of the bot, pushed only when their values change.
+ * <p>
+ * Instead of polling, the bot subscribes once ({@code PLACEHOLDER_SUBSCRIBE}) to placeholders &times; players.
+ * Every subscribed value is re-evaluated once per {@code placeholder_subscriptions.interval_ms}, spread
+ * evenly across the ticks of the interval, and a {@code PLACEHOLDER_UPDATE} carrying the changed values is pushed:
+ * <pre>{@code
+ * {
+ *   "type": "PLACEHOLDER_UPDATE",
+ *   "server_id": "...",
+ *   "subscription_id": "status-channel",
+ *   "results": [ { "values": { "%server_online%": "42" } } ]
+ * }
+ * }</pre>
+ * The values are evaluated one task each through the {@link studio.itsmy.itsmybot.service.MainThreadService},
+ * sharing its tick budget with the other work of the server thread.
+ * The first evaluation always pushes, and a value is only considered pushed once its update was sent: a value
+ * whose update could not be sent is pushed again on its next evaluation.
+ * Subscriptions survive a resumed session; a new session ({@code AUTH_SUCCESS}) drops them, the bot subscribes again.
+ * A subscription exceeding {@code placeholder_subscriptions.max_values}, or naming a malformed player UUID, is
+ * refused with {@code PLACEHOLDER_SUBSCRIBE_FAIL}.
+ *
+ * <h2>Thread-safety</h2>
+ * Subscriptions may change from any thread; values are evaluated on the server thread only.
+ */
+public class PlaceholderSubscriptions {
+
+    private final ItsMyBotPlugin plugin;
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final BukkitTask task;
+
+    private int valueCount;
+    private volatile boolean dirty;
+
+    // server thread only
+    private Value[] values = new Value[0];
+    private int cursor;
+    private boolean evaluating;
+
+    private final AtomicLong evaluated = new AtomicLong();
+    private final AtomicLong changed = new AtomicLong();
+    private final AtomicLong updates = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    /**
+     * Creates the subscriptions and starts their evaluation task.
+     *
+     * @param plugin the main plugin instance
+     */
+    public PlaceholderSubscriptions(ItsMyBotPlugin plugin) {
+        this.plugin = plugin;
+        this.task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Adds or replaces a subscription.
+     *
+     * @param message subscription message
+     */
+    public void subscribe(PlaceholderSubscribeMessage message) {
+        final String id = message.getSubscriptionId();
+        if (id == null) {
+            PluginLogger.warn("Ignoring PLACEHOLDER_SUBSCRIBE without subscription_id.");
+            return;
+        }
+        for (String playerUuid : message.getPlayerUuids()) {
+            if (!isUuid(playerUuid)) {
+                sendFailure(id, "INVALID_PLAYER_UUID");
+                return;
+            }
+        }
+
+        final Subscription subscription = new Subscription(id,
+                new ArrayList<>(new LinkedHashSet<>(message.getPlaceholders())),
+                message.getPlayerUuids().isEmpty()
+                        ? Collections.<String>singletonList(null)
+                        : new ArrayList<>(new LinkedHashSet<>(message.getPlayerUuids())));
+
+        synchronized (this) {
+            final Subscription previous = subscriptions.get(id);
+            final int total = valueCount - (previous != null ? previous.values.length : 0) + subscription.values.length;
+            if (total > PlaceholderSubscriptionConfig.getMaxValues()) {
+                sendFailure(id, "TOO_MANY_VALUES");
+                return;
+            }
+            subscriptions.put(id, subscription);
+            valueCount = total;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Removes a subscription.
+     *
+     * @param message unsubscription message
+     */
+    public void unsubscribe(PlaceholderSubscribeMessage message) {
+        synchronized (this) {
+            final Subscription previous = message.getSubscriptionId() != null
+                    ? subscriptions.remove(message.getSubscriptionId())
+                    : null;
+            if (previous != null) {
+                valueCount -= previous.values.length;
+                dirty = true;
+            }
+        }
+    }
+
+    /**
+     * Removes every subscription, typically when a new session starts.
+     */
+    public void clear() {
+        synchronized (this) {
+            subscriptions.clear();
+            valueCount = 0;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Stops the evaluation task.
+     */
+    public void shutdown() {
+        task.cancel();
+    }
+
+    /**
+     * Queues this tick's share of the subscribed values, unless the previous share is still being evaluated.
+     * A share rejected by the main thread queue is queued again on the next tick.
+     */
+    private void tick() {
+        if (dirty) {
+            rebuild();
+        }
+        if (evaluating) return;
+
+        final WSClient client = plugin.getWSClient();
+        final int count = values.length;
+        if (count == 0 || !client.isReady()) return;
+
+        final long intervalTicks = Math.max(1, PlaceholderSubscriptionConfig.getIntervalMs() / 50);
+        final int share = (int) Math.min(count, (count + intervalTicks - 1) / intervalTicks);
+        final List<Value> batch = new ArrayList<>(share);
+        for (int i = 0; i < share; i++) {
+            batch.add(values[(cursor + i) % count]);
+        }
+
+        final Map<String, OfflinePlayer> players = new HashMap<>();
+        final Map<String, Map<String, String>> references = new HashMap<>();
+        final Map<Subscription, List<Value>> changes = new LinkedHashMap<>();
+        try {
+            plugin.getMainThreadService().executeEach(batch, value -> evaluate(value, players, references, changes), () -> {
+                evaluating = false;
+                for (Map.Entry<Subscription, List<Value>> change : changes.entrySet()) {
+                    sendUpdate(client, change.getKey().id, change.getValue());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return;
+        }
+        evaluating = true;
+        cursor = (cursor + share) % count;
+    }
+
+    /**
+     * Re-evaluates one value, recording it in {@code changes} if it differs from the last one pushed.
+     */
+    private void evaluate(Value value, Map<String, OfflinePlayer> players, Map<String, Map<String, String>> references,
+                          Map<Subscription, List<Value>> changes) {
+        final String uuidStr = value.playerUuid;
+        final String resolved;
+        try {
+            final OfflinePlayer target = players.containsKey(uuidStr)
+                    ? players.get(uuidStr)
+                    : lookUp(players, uuidStr);
+            Map<String, String> playerReferences = references.get(uuidStr);
+            if (playerReferences == null) {
+                playerReferences = new HashMap<>();
+                references.put(uuidStr, playerReferences);
+            }
+            final String result = PlaceholderUtil.resolvePlaceholder(plugin, target, value.placeholder, playerReferences);
+            resolved = result == null ? "" : result;
+        } catch (Exception e) {
+            if (failed.incrementAndGet() % 1000 == 1) {
+                PluginLogger.warn("Failed to evaluate subscribed placeholder " + value.placeholder + ": " + e);
+            }
+            return;
+        }
+        evaluated.incrementAndGet();
+
+        if (resolved.equals(value.last)) return;
+        value.next = resolved;
+        changed.incrementAndGet();
+
+        List<Value> subscriptionChanges = changes.get(value.subscription);
+        if (subscriptionChanges == null) {
+            subscriptionChanges = new ArrayList<>();
+            changes.put(value.subscription, subscriptionChanges);
+        }
+        subscriptionChanges.add(value);
+    }
+
+    private OfflinePlayer lookUp(Map<String, OfflinePlayer> players, String uuidStr) {
+        final OfflinePlayer target = PlaceholderUtil.findPlayerOrServerWide(plugin, uuidStr);
+        players.put(uuidStr, target);
+        return target;
+    }
+
+    /**
+     * Flattens the values of all subscriptions, keeping the evaluation cursor in range.
+     */
+    private void rebuild() {
+        dirty = false;
+        final List<Value> all = new ArrayList<>();
+        for (Subscription subscription : subscriptions.values()) {
+            Collections.addAll(all, subscription.values);
+        }
+        values = all.toArray(new Value[0]);
+        cursor = values.length == 0 ? 0 : cursor % values.length;
+    }
+
+    /**
+     * Pushes the changed values of a subscription, committing them as pushed only if the update was sent.
+     */
+    private void sendUpdate(WSClient client, String subscriptionId, List<Value> changes) {
+        final Map<String, JsonObject> players = new LinkedHashMap<>();
+        for (Value value : changes) {
+            JsonObject playerValues = players.get(value.playerUuid);
+            if (playerValues == null) {
+                playerValues = new JsonObject();
+                players.put(value.playerUuid, playerValues);
+            }
+            playerValues.addProperty(value.placeholder, value.next);
+        }
+
+        final JsonArray results = new JsonArray();
+        for (Map.Entry<String, JsonObject> player : players.entrySet()) {
+            final JsonObject entry = new JsonObject();
+            if (player.getKey() != null) entry.addProperty("player_uuid", player.getKey());
+            entry.add("values", player.getValue());
+            results.add(entry);
+        }
+
+        final JsonObject update = new JsonObject();
+        update.addProperty("type", "PLACEHOLDER_UPDATE");
+        update.addProperty("server_id", WSConfig.getServerId());
+        update.addProperty("subscription_id", subscriptionId);
+        update.add("results", results);
+        if (client.sendMessage(update)) {
+            updates.incrementAndGet();
+            for (Value value : changes) {
+                value.last = value.next;
+            }
+        }
+    }
+
+    private static boolean isUuid(String value) {
+        if (value == null) return false;
+        try {
+            UUID.fromString(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void sendFailure(String subscriptionId, String reason) {
+        final JsonObject failure = new JsonObject();
+        failure.addProperty("type", "PLACEHOLDER_SUBSCRIBE_FAIL");
+        failure.addProperty("server_id", WSConfig.getServerId());
+        failure.addProperty("subscription_id", subscriptionId);
+        failure.addProperty("reason", reason);
+        plugin.getWSClient().sendMessage(failure);
+    }
+
+    /** @return number of subscriptions */
+    public int size() {
+        return subscriptions.size();
+    }
+
+    /** @return number of subscribed values, all subscriptions combined */
+    public synchronized int getValueCount() {
+        return valueCount;
+    }
+
+    /** @return values re-evaluated */
+    public long getEvaluatedCount() {
+        return evaluated.get();
+    }
+
+    /** @return values found changed since the last push */
+    public long getChangedCount() {
+        return changed.get();
+    }
+
+    /** @return {@code PLACEHOLDER_UPDATE} messages sent */
+    public long getUpdateCount() {
+        return updates.get();
+    }
+
+    /** @return evaluations that threw */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * A subscription and its values.
+     */
+    private static final class Subscription {
+        private final String id;
+        private final Value[] values;
+
+        private Subscription(String id, List<String> placeholders, List<String> playerUuids) {
+            this.id = id;
+            this.values = new Value[placeholders.size() * playerUuids.size()];
+            int i = 0;
+            for (String playerUuid : playerUuids) {
+                for (String placeholder : placeholders) {
+                    values[i++] = new Value(this, placeholder, playerUuid);
+                }
+            }
+        }
+    }
+
+    /**
+     * A subscribed (placeholder, player) pair, the last value pushed and the value being pushed.
+     */
+    private static final class Value {
+        private final Subscription subscription;
+        private final String placeholder;
+        private final String playerUuid;
+        private String last;
+        private String next;
+
+        private Value(Subscription subscription, String placeholder, String playerUuid) {
+            this.subscription = subscription;
+            this.placeholder = placeholder;
+            this.playerUuid = playerUuid;
+        }
+    }
+}
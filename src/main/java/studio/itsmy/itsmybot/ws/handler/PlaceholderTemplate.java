@@ -0,0 +1,134 @@
+package studio.itsmy.itsmybot.ws.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Placeholder string compiled into literal segments and {@code %identifier_params%} references.
+ * <p>
+ * Tokens are delimited like PlaceholderAPI does: a {@code %} followed by a space before any {@code _}
+ * is literal, and an unclosed {@code %} runs literally to the end of the string. Rendering a template
+ * therefore gives the same result as resolving the whole string, while each distinct reference is
+ * resolved only once.
+ *
+ * <h2>Thread-safety</h2>
+ * Immutable.
+ */
+public final class PlaceholderTemplate {
+
+    /** Literal segments, one more than the references: {@code literal[0] ref[0] literal[1] ... literal[n]}. */
+    private final String[] literals;
+
+    /** References, including their {@code %} delimiters. */
+    private final String[] references;
+
+    /** Total length of the literal segments. */
+    private final int literalLength;
+
+    private PlaceholderTemplate(String[] literals, String[] references, int literalLength) {
+        this.literals = literals;
+        this.references = references;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Compiles a placeholder string.
+     *
+     * @param text raw placeholder string
+     * @return the template
+     */
+    public static PlaceholderTemplate compile(String text) {
+        final List<String> literals = new ArrayList<>();
+        final List<String> references = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int literalLength = 0;
+
+        int i = 0;
+        final int length = text.length();
+        while (i < length) {
+            final char c = text.charAt(i);
+            if (c != '%' || i + 1 >= length) {
+                literal.append(c);
+                i++;
+                continue;
+            }
+
+            // scan a reference: identifier up to '_', then parameters up to the closing '%'
+            int j = i + 1;
+            boolean identified = false;
+            boolean closed = false;
+            while (j < length) {
+                final char p = text.charAt(j);
+                if (p == ' ' && !identified) break;
+                if (p == '%') {
+                    closed = true;
+                    break;
+                }
+                if (p == '_') identified = true;
+                j++;
+            }
+
+            if (!closed) {
+                // not a reference: keep the scanned characters (and the space, if any) literally
+                final int end = j < length ? j + 1 : length;
+                literal.append(text, i, end);
+                i = end;
+                continue;
+            }
+
+            literals.add(literal.toString());
+            literalLength += literal.length();
+            literal.setLength(0);
+            references.add(text.substring(i, j + 1));
+            i = j + 1;
+        }
+        literals.add(literal.toString());
+        literalLength += literal.length();
+
+        return new PlaceholderTemplate(literals.toArray(new String[0]), references.toArray(new String[0]), literalLength);
+    }
+
+    /**
+     * Checks whether the template holds any reference.
+     *
+     * @return {@code true} if the string is a plain literal
+     */
+    public boolean isLiteral() {
+        return references.length == 0;
+    }
+
+    /**
+     * Gets the references of the template, in order (duplicates included).
+     *
+     * @return the references, including their {@code %} delimiters
+     */
+    public String[] getReferences() {
+        return references.clone();
+    }
+
+    /**
+     * Assembles the template.
+     *
+     * @param resolver resolves a reference (with its {@code %} delimiters) to its value; it is called for
+     *                 every occurrence, callers memoize if needed
+     * @return the rendered string
+     */
+    public String render(Function<String, String> resolver) {
+        if (references.length == 0) return literals[0];
+
+        final String[] values = new String[references.length];
+        int size = literalLength;
+        for (int i = 0; i < references.length; i++) {
+            final String value = resolver.apply(references[i]);
+            values[i] = value != null ? value : references[i];
+            size += values[i].length();
+        }
+
+        final StringBuilder out = new StringBuilder(size);
+        for (int i = 0; i < references.length; i++) {
+            out.append(literals[i]).append(values[i]);
+        }
+        return out.append(literals[references.length]).toString();
+    }
+}
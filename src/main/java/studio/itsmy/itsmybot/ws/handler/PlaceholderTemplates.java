@@ -0,0 +1,70 @@
+package studio.itsmy.itsmybot.ws.handler;
+
+import studio.itsmy.itsmybot.configuration.advanced.PlaceholderCacheConfig;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of compiled {@link PlaceholderTemplate}s, keyed by the raw placeholder string.
+ * <p>
+ * The bot sends the same strings over and over (profile cards, leaderboards): each is scanned once,
+ * then rendered from its token list. Beyond {@code placeholder_cache.max_templates} strings, the least
+ * recently used are dropped.
+ *
+ * <h2>Thread-safety</h2>
+ * Guarded by the cache monitor; compilation happens outside of it.
+ */
+public class PlaceholderTemplates {
+
+    private final LinkedHashMap<String, PlaceholderTemplate> templates = new LinkedHashMap<>(64, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong compiled = new AtomicLong();
+
+    /**
+     * Gets the compiled template of a placeholder string, compiling it if needed.
+     *
+     * @param text raw placeholder string
+     * @return the template
+     */
+    public PlaceholderTemplate get(String text) {
+        synchronized (this) {
+            final PlaceholderTemplate template = templates.get(text);
+            if (template != null) {
+                hits.incrementAndGet();
+                return template;
+            }
+        }
+
+        final PlaceholderTemplate template = PlaceholderTemplate.compile(text);
+        compiled.incrementAndGet();
+
+        final int maxTemplates = PlaceholderCacheConfig.getMaxTemplates();
+        synchronized (this) {
+            templates.put(text, template);
+            final Iterator<PlaceholderTemplate> eldest = templates.values().iterator();
+            while (templates.size() > maxTemplates && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+        return template;
+    }
+
+    /** @return number of cached templates */
+    public synchronized int size() {
+        return templates.size();
+    }
+
+    /** @return lookups answered by an already compiled template */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /** @return strings compiled */
+    public long getCompiledCount() {
+        return compiled.get();
+    }
+}
@@ -1,19 +1,31 @@
 package studio.itsmy.itsmybot.ws.handler;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import studio.itsmy.itsmybot.ItsMyBotPlugin;
 import studio.itsmy.itsmybot.configuration.essential.WSConfig;
 import studio.itsmy.itsmybot.util.PluginUtils;
+import studio.itsmy.itsmybot.ws.message.PlaceholderBatchRequest;
+import studio.itsmy.itsmybot.ws.message.PlaceholderRequest;
 import me.clip.placeholderapi.PlaceholderAPI;
-import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import studio.itsmy.itsmybot.ws.WSClient;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * Utility class for processing placeholder resolution requests received via WebSocket.
  * <p>
- * This class is used by {@link WSClient} when receiving a {@code PLACEHOLDER} message.
+ * This class is used by {@link WSClient} when receiving a {@code PLACEHOLDER} or {@code PLACEHOLDER_BATCH} message.
  * It extracts the requested placeholder and player UUID (if present),
  * resolves it using PlaceholderAPI (or returns the raw value if PAPI is unavailable),
  * and sends a JSON response back to the WebSocket server.
@@ -21,7 +33,13 @@ import studio.itsmy.itsmybot.ws.WSClient;
  * <h2>Features</h2>
  * <ul>
  *   <li>Supports resolving placeholders globally or for a specific player.</li>
+ *   <li>Resolves batches (many placeholders &times; many players) in one main-thread pass, looking each
+ *       player up once, answered with a single {@code PLACEHOLDER_BATCH_RESULT}.</li>
  *   <li>Performs resolution on the Bukkit main thread for thread-safety.</li>
+ *   <li>Serves values cached in the {@link PlaceholderCache} directly, without waiting for the main thread.</li>
+ *   <li>Resolves async-safe placeholders ({@link PlaceholderClassifier}) on the handler thread.</li>
+ *   <li>Compiles placeholder strings once ({@link PlaceholderTemplates}) and resolves each distinct
+ *       {@code %...%} reference once per player.</li>
  *   <li>Handles player-not-found and internal errors gracefully by returning error JSON.</li>
  * </ul>
  *
@@ -44,6 +62,18 @@ import studio.itsmy.itsmybot.ws.WSClient;
  *   "player_uuid": "...",
  *   "value": "Ordwen"
  * }
+ *
+ * // Batch request and result (player_uuid omitted for server-wide values):
+ * { "type": "PLACEHOLDER_BATCH", "id": "...", "placeholders": ["%player_name%", "%player_level%"], "player_uuids": ["..."] }
+ * {
+ *   "type": "PLACEHOLDER_BATCH_RESULT",
+ *   "id": "...",
+ *   "server_id": "...",
+ *   "results": [
+ *     { "player_uuid": "...", "values": { "%player_name%": "Ordwen", "%player_level%": "12" } },
+ *     { "player_uuid": "...", "error": "INTERNAL_ERROR", "message": "..." }
+ *   ]
+ * }
  * }</pre>
  */
 public final class PlaceholderUtil {
@@ -57,8 +87,11 @@ public final class PlaceholderUtil {
      * <p>
      * Steps performed:
      * <ol>
-     *   <li>Extracts the {@code id}, {@code placeholder}, and {@code player_uuid} (if present).</li>
-     *   <li>Schedules resolution on the main server thread.</li>
+     *   <li>Reads the {@code id}, {@code placeholder}, and {@code player_uuid} (if present).</li>
+     *   <li>Joins the resolution already in flight for the same placeholder and player, if any
+     *       ({@link PlaceholderFlights}); its result answers this request too.</li>
+     *   <li>Queues resolution on the main server thread ({@link studio.itsmy.itsmybot.service.MainThreadService}),
+     *       or answers {@code INTERNAL_ERROR} if its queue rejects it.</li>
      *   <li>Attempts to resolve the placeholder using {@link #resolvePlaceholder(ItsMyBotPlugin, String, String)}.</li>
      *   <li>On success: sends a {@code PLACEHOLDER_RESULT} message via {@link WSClient#sendResponse(JsonObject, String)}.</li>
      *   <li>On player not found: tries a server-wide resolution as fallback, or sends a {@code PLAYER_NOT_FOUND} error.</li>
@@ -66,42 +99,289 @@ public final class PlaceholderUtil {
      * </ol>
      *
      * @param plugin  main plugin instance
-     * @param message JSON object containing the placeholder request
+     * @param request the placeholder request
      */
-    public static void handlePlaceholderRequest(ItsMyBotPlugin plugin, JsonObject message) {
-        final String id = message.get("id").getAsString();
-        final String rawPlaceholder = message.get("placeholder").getAsString();
-        final String uuidStr = extractUuid(message);
+    public static void handlePlaceholderRequest(ItsMyBotPlugin plugin, PlaceholderRequest request) {
+        final String id = request.getId();
+        final String rawPlaceholder = request.getPlaceholder();
+        final String uuidStr = request.getPlayerUuid();
+        final PlaceholderCache cache = plugin.getPlaceholderCache();
+
+        final String cached = cache.get(rawPlaceholder, uuidStr);
+        if (cached != null) {
+            sendResult(plugin, baseOut(id, rawPlaceholder, uuidStr), cached);
+            return;
+        }
 
-        Bukkit.getScheduler().runTask(plugin, () -> {
-            final JsonObject base = baseOut(id, rawPlaceholder, uuidStr);
+        final PlaceholderFlights flights = plugin.getPlaceholderFlights();
+        final PlaceholderFlights.Flight flight = flights.join(rawPlaceholder, uuidStr, id);
+        if (flight == null) return; // answered by the resolution in flight
 
-            try {
-                final String resolved = resolvePlaceholder(plugin, uuidStr, rawPlaceholder);
-                sendResult(plugin, base, resolved);
-            } catch (PlayerNotFound e) {
+        boolean queued = false;
+        try {
+            final PlaceholderClassifier classifier = plugin.getPlaceholderClassifier();
+            if (classifier.isAsyncSafe(rawPlaceholder)) {
+                final String resolved = resolveAsync(plugin, uuidStr, rawPlaceholder);
+                if (resolved != null) {
+                    sendResults(plugin, flights.complete(flight), rawPlaceholder, uuidStr, resolved);
+                    return;
+                }
+            }
+
+            classifier.recordMain();
+            plugin.getMainThreadService().execute(() -> {
                 try {
-                    final String resolved = PlaceholderAPI.setPlaceholders(null, rawPlaceholder);
-                    sendResult(plugin, base, resolved);
-                } catch (Exception ex) {
-                    sendError(plugin, base, "PLAYER_NOT_FOUND", null);
+                    final String resolved = resolvePlaceholder(plugin, uuidStr, rawPlaceholder);
+                    cache.put(rawPlaceholder, uuidStr, resolved);
+                    sendResults(plugin, flights.complete(flight), rawPlaceholder, uuidStr, resolved);
+                } catch (PlayerNotFound e) {
+                    try {
+                        final String resolved = resolvePlaceholder(plugin, null, rawPlaceholder, new HashMap<>(4));
+                        cache.put(rawPlaceholder, null, resolved);
+                        sendResults(plugin, flights.complete(flight), rawPlaceholder, uuidStr, resolved);
+                    } catch (Exception ex) {
+                        sendErrors(plugin, flights.complete(flight), rawPlaceholder, uuidStr, "PLAYER_NOT_FOUND", null);
+                    }
+                } catch (Exception e) {
+                    sendErrors(plugin, flights.complete(flight), rawPlaceholder, uuidStr, "INTERNAL_ERROR", e.getMessage());
+                } finally {
+                    // no-op once answered; otherwise an Error escaped the expansion
+                    sendErrors(plugin, flights.complete(flight), rawPlaceholder, uuidStr, "INTERNAL_ERROR", null);
                 }
-            } catch (Exception e) {
-                sendError(plugin, base, "INTERNAL_ERROR", e.getMessage());
+            });
+            queued = true;
+        } catch (RejectedExecutionException e) {
+            sendErrors(plugin, flights.complete(flight), rawPlaceholder, uuidStr, "INTERNAL_ERROR", e.getMessage());
+        } finally {
+            if (!queued) {
+                // no-op once answered; otherwise the resolution could not be run
+                sendErrors(plugin, flights.complete(flight), rawPlaceholder, uuidStr, "INTERNAL_ERROR", null);
             }
-        });
+        }
+    }
+
+    /**
+     * Handles an incoming placeholder batch from the WebSocket server.
+     * <p>
+     * The placeholders of each player are resolved in one main-thread task per player. Each player is looked
+     * up once; an unknown player falls back to server-wide values, like single requests. Duplicate
+     * placeholders and players are resolved once.
+     * <p>
+     * Cached values are looked up first, then async-safe values are resolved on the calling thread
+     * (see {@link PlaceholderClassifier}): a batch served entirely this way is answered right away,
+     * otherwise only the remaining values are resolved on the main thread. If the main thread queue rejects
+     * the batch, the players still missing values are answered with {@code INTERNAL_ERROR}.
+     *
+     * @param plugin  main plugin instance
+     * @param request the batch request
+     */
+    public static void handlePlaceholderBatch(ItsMyBotPlugin plugin, PlaceholderBatchRequest request) {
+        final String id = request.getId();
+        final Set<String> placeholders = new LinkedHashSet<>(request.getPlaceholders());
+        final Set<String> uuids = new LinkedHashSet<>(request.getPlayerUuids().isEmpty()
+                ? Collections.<String>singletonList(null)
+                : request.getPlayerUuids());
+        final PlaceholderCache cache = plugin.getPlaceholderCache();
+
+        // player uuid -> placeholder -> value, null until resolved
+        final Map<String, Map<String, String>> values = new LinkedHashMap<>();
+        boolean complete = true;
+        for (String uuidStr : uuids) {
+            final Map<String, String> playerValues = new LinkedHashMap<>();
+            for (String placeholder : placeholders) {
+                final String cached = cache.get(placeholder, uuidStr);
+                playerValues.put(placeholder, cached);
+                complete &= cached != null;
+            }
+            values.put(uuidStr, playerValues);
+        }
+
+        if (complete || resolveAsync(plugin, values)) {
+            sendBatchResult(plugin, id, values, Collections.<String, String>emptyMap());
+            return;
+        }
+
+        // one task per player, so that the tick budget applies within the batch
+        final Map<String, String> errors = new LinkedHashMap<>();
+        try {
+            plugin.getMainThreadService().executeEach(values.entrySet(), entry -> {
+                try {
+                    resolveMissing(plugin, entry.getKey(), entry.getValue());
+                } catch (Exception e) {
+                    errors.put(entry.getKey(), e.getMessage());
+                }
+            }, () -> sendBatchResult(plugin, id, values, errors));
+        } catch (RejectedExecutionException e) {
+            // nothing was queued: the players still missing values are answered with an error
+            for (Map.Entry<String, Map<String, String>> player : values.entrySet()) {
+                if (player.getValue().containsValue(null)) errors.put(player.getKey(), e.getMessage());
+            }
+            sendBatchResult(plugin, id, values, errors);
+        }
+    }
+
+    /**
+     * Resolves the missing async-safe values of a batch on the calling thread.
+     *
+     * @param plugin main plugin instance
+     * @param values player uuid to placeholder to value, {@code null} values are resolved in place
+     * @return {@code true} if no value is missing anymore
+     */
+    private static boolean resolveAsync(ItsMyBotPlugin plugin, Map<String, Map<String, String>> values) {
+        final PlaceholderClassifier classifier = plugin.getPlaceholderClassifier();
+        final PlaceholderCache cache = plugin.getPlaceholderCache();
+        boolean complete = true;
+
+        for (Map.Entry<String, Map<String, String>> player : values.entrySet()) {
+            final String uuidStr = player.getKey();
+            final Map<String, String> references = new HashMap<>();
+            OfflinePlayer target = null;
+            boolean lookedUp = false;
+
+            for (Map.Entry<String, String> value : player.getValue().entrySet()) {
+                if (value.getValue() != null) continue;
+                if (!classifier.isAsyncSafe(value.getKey())) {
+                    complete = false;
+                    continue;
+                }
+                if (!lookedUp) {
+                    try {
+                        target = findPlayerOrServerWide(plugin, uuidStr);
+                    } catch (IllegalArgumentException e) {
+                        // malformed uuid, reported by the main thread pass
+                        complete = false;
+                        break;
+                    }
+                    lookedUp = true;
+                }
+
+                final String resolved = resolveAsync(plugin, target, value.getKey(), references);
+                if (resolved == null) {
+                    complete = false;
+                    continue;
+                }
+                cache.put(value.getKey(), cacheKey(target, uuidStr), resolved);
+                value.setValue(resolved);
+            }
+        }
+        return complete;
+    }
+
+    /**
+     * Resolves the values of a batch entry that were not cached nor resolved asynchronously.
+     *
+     * @param plugin  main plugin instance
+     * @param uuidStr player UUID string (nullable for server-wide)
+     * @param values  placeholder to value, {@code null} values are resolved in place
+     */
+    private static void resolveMissing(ItsMyBotPlugin plugin, String uuidStr, Map<String, String> values) {
+        if (!values.containsValue(null)) return;
+
+        final OfflinePlayer target = findPlayerOrServerWide(plugin, uuidStr);
+        final PlaceholderCache cache = plugin.getPlaceholderCache();
+        final PlaceholderClassifier classifier = plugin.getPlaceholderClassifier();
+        final Map<String, String> references = new HashMap<>();
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            if (value.getValue() != null) continue;
+            final String resolved = resolvePlaceholder(plugin, target, value.getKey(), references);
+            classifier.recordMain();
+            cache.put(value.getKey(), cacheKey(target, uuidStr), resolved);
+            value.setValue(resolved == null ? "" : resolved);
+        }
+    }
+
+    /**
+     * Resolves an async-safe placeholder on the calling thread, caching the value.
+     *
+     * @param plugin      main plugin instance
+     * @param uuidStr     player UUID string (nullable for server-wide)
+     * @param placeholder raw placeholder string
+     * @return the value, or {@code null} if it must be resolved on the main thread
+     */
+    private static String resolveAsync(ItsMyBotPlugin plugin, String uuidStr, String placeholder) {
+        final OfflinePlayer target;
+        try {
+            target = findPlayerOrServerWide(plugin, uuidStr);
+        } catch (IllegalArgumentException e) {
+            return null; // malformed uuid, reported by the main thread path
+        }
+        final String resolved = resolveAsync(plugin, target, placeholder, new HashMap<>(4));
+        if (resolved != null) {
+            plugin.getPlaceholderCache().put(placeholder, cacheKey(target, uuidStr), resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Gets the cache key of a resolved value: server-wide ({@code null}) when an unknown player fell back
+     * to a server-wide resolution, so that the player's own values are resolved once they join.
+     *
+     * @param target  player the value was resolved for, or {@code null} for a server-wide resolution
+     * @param uuidStr requested player UUID string (nullable)
+     * @return the key to cache the value under
+     */
+    private static String cacheKey(OfflinePlayer target, String uuidStr) {
+        return target != null ? uuidStr : null;
+    }
+
+    /**
+     * Resolves an async-safe placeholder for an already looked up player, demoting it on failure.
+     *
+     * @param plugin      main plugin instance
+     * @param target      target player, or {@code null} for a server-wide resolution
+     * @param placeholder raw placeholder string
+     * @param references  values of the references already resolved for this player, filled in place
+     * @return the value, or {@code null} if it must be resolved on the main thread
+     */
+    private static String resolveAsync(ItsMyBotPlugin plugin, OfflinePlayer target, String placeholder,
+                                       Map<String, String> references) {
+        final PlaceholderClassifier classifier = plugin.getPlaceholderClassifier();
+        try {
+            final String resolved = resolvePlaceholder(plugin, target, placeholder, references);
+            classifier.recordAsync();
+            return resolved == null ? "" : resolved;
+        } catch (Exception e) {
+            classifier.demote(placeholder, e);
+            return null;
+        }
     }
 
     /**
-     * Extracts the optional {@code player_uuid} from the incoming message.
+     * Sends a {@code PLACEHOLDER_BATCH_RESULT} message.
      *
-     * @param message JSON message
-     * @return UUID string, or {@code null} if absent
+     * @param plugin main plugin instance
+     * @param id     request id
+     * @param values player uuid to resolved values
+     * @param errors player uuid to error message, for entries that failed
      */
-    private static String extractUuid(JsonObject message) {
-        return (message.has("player_uuid") && !message.get("player_uuid").isJsonNull())
-                ? message.get("player_uuid").getAsString()
-                : null;
+    private static void sendBatchResult(ItsMyBotPlugin plugin, String id, Map<String, Map<String, String>> values,
+                                        Map<String, String> errors) {
+        final JsonArray results = new JsonArray();
+        for (Map.Entry<String, Map<String, String>> player : values.entrySet()) {
+            final String uuidStr = player.getKey();
+            final JsonObject entry = new JsonObject();
+            if (uuidStr != null) entry.addProperty("player_uuid", uuidStr);
+
+            if (errors.containsKey(uuidStr)) {
+                entry.addProperty("error", "INTERNAL_ERROR");
+                final String message = errors.get(uuidStr);
+                if (message != null) entry.addProperty("message", message);
+            } else {
+                final JsonObject playerValues = new JsonObject();
+                for (Map.Entry<String, String> value : player.getValue().entrySet()) {
+                    playerValues.addProperty(value.getKey(), value.getValue());
+                }
+                entry.add("values", playerValues);
+            }
+            results.add(entry);
+        }
+
+        final JsonObject out = new JsonObject();
+        out.addProperty("type", "PLACEHOLDER_BATCH_RESULT");
+        out.addProperty("id", id);
+        out.addProperty("server_id", WSConfig.getServerId());
+        out.add("results", results);
+        plugin.getWSClient().sendResponse(out, id);
     }
 
     /**
@@ -134,20 +414,82 @@ public final class PlaceholderUtil {
         if (!PluginUtils.isPluginEnabled("PlaceholderAPI")) {
             return rawPlaceholder;
         }
+        return resolvePlaceholder(plugin, findPlayer(plugin, uuidStr), rawPlaceholder, new HashMap<>(4));
+    }
 
-        if (uuidStr == null) {
-            return PlaceholderAPI.setPlaceholders(null, rawPlaceholder); // server-wide
-        }
+    /**
+     * Looks a player up by UUID, through the {@link studio.itsmy.itsmybot.service.PlayerIndexService}.
+     *
+     * @param plugin  main plugin instance
+     * @param uuidStr player UUID string (nullable)
+     * @return the player, or {@code null} if no UUID is provided
+     * @throws PlayerNotFound if the player cannot be found (never played and offline)
+     */
+    private static OfflinePlayer findPlayer(ItsMyBotPlugin plugin, String uuidStr) {
+        if (uuidStr == null) return null;
 
-        final OfflinePlayer offline = plugin.getServer().getOfflinePlayer(java.util.UUID.fromString(uuidStr));
-        if (offline == null || (!offline.hasPlayedBefore() && !offline.isOnline())) {
+        final OfflinePlayer offline = plugin.getPlayerIndexService().find(UUID.fromString(uuidStr));
+        if (offline == null) {
             throw new PlayerNotFound();
         }
+        return offline;
+    }
+
+    /**
+     * Looks a player up by UUID, falling back to server-wide resolution for unknown players.
+     *
+     * @param plugin  main plugin instance
+     * @param uuidStr player UUID string (nullable)
+     * @return the player, or {@code null} for a server-wide resolution
+     * @throws IllegalArgumentException if the UUID is malformed
+     */
+    static OfflinePlayer findPlayerOrServerWide(ItsMyBotPlugin plugin, String uuidStr) {
+        try {
+            return findPlayer(plugin, uuidStr);
+        } catch (PlayerNotFound e) {
+            return null;
+        }
+    }
+
+    /**
+     * Resolves a placeholder string for an already looked up player.
+     * <p>
+     * The string is rendered from its compiled {@link PlaceholderTemplate}: each distinct reference is
+     * resolved once through PlaceholderAPI, and reused from {@code references} when already resolved
+     * for the same player.
+     *
+     * @param plugin         main plugin instance
+     * @param offline        target player, or {@code null} for a server-wide resolution
+     * @param rawPlaceholder raw placeholder string
+     * @param references     values of the references already resolved for this player, filled in place
+     * @return resolved placeholder value (the raw string if PlaceholderAPI is unavailable)
+     */
+    static String resolvePlaceholder(ItsMyBotPlugin plugin, OfflinePlayer offline, String rawPlaceholder,
+                                             Map<String, String> references) {
+        if (!PluginUtils.isPluginEnabled("PlaceholderAPI")) {
+            return rawPlaceholder;
+        }
+
+        final PlaceholderTemplate template = plugin.getPlaceholderTemplates().get(rawPlaceholder);
+        if (template.isLiteral()) {
+            return rawPlaceholder;
+        }
 
-        final Player online = offline.getPlayer();
-        return (online != null)
-                ? PlaceholderAPI.setPlaceholders(online, rawPlaceholder)
-                : PlaceholderAPI.setPlaceholders(offline, rawPlaceholder);
+        final Player online = offline != null ? offline.getPlayer() : null;
+        return template.render(reference -> {
+            String value = references.get(reference);
+            if (value == null) {
+                if (offline == null) {
+                    value = PlaceholderAPI.setPlaceholders(null, reference); // server-wide
+                } else {
+                    value = online != null
+                            ? PlaceholderAPI.setPlaceholders(online, reference)
+                            : PlaceholderAPI.setPlaceholders(offline, reference);
+                }
+                if (value != null) references.put(reference, value);
+            }
+            return value;
+        });
     }
 
     /**
@@ -163,6 +505,39 @@ public final class PlaceholderUtil {
         plugin.getWSClient().sendResponse(base, base.get("id").getAsString());
     }
 
+    /**
+     * Sends the same resolution result to every request of a flight.
+     *
+     * @param plugin      main plugin instance
+     * @param ids         ids of the requests to answer
+     * @param placeholder original placeholder string
+     * @param uuidStr     player UUID string (nullable)
+     * @param resolved    resolved value
+     */
+    private static void sendResults(ItsMyBotPlugin plugin, List<String> ids, String placeholder, String uuidStr,
+                                    String resolved) {
+        for (String id : ids) {
+            sendResult(plugin, baseOut(id, placeholder, uuidStr), resolved);
+        }
+    }
+
+    /**
+     * Sends the same error to every request of a flight.
+     *
+     * @param plugin      main plugin instance
+     * @param ids         ids of the requests to answer
+     * @param placeholder original placeholder string
+     * @param uuidStr     player UUID string (nullable)
+     * @param reason      error reason
+     * @param message     optional human-readable error message (nullable)
+     */
+    private static void sendErrors(ItsMyBotPlugin plugin, List<String> ids, String placeholder, String uuidStr,
+                                   String reason, String message) {
+        for (String id : ids) {
+            sendError(plugin, baseOut(id, placeholder, uuidStr), reason, message);
+        }
+    }
+
     /**
      * Sends an error message back to the WebSocket server.
      *
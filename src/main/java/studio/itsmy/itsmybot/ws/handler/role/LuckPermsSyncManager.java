@@ -1,15 +1,22 @@
 package studio.itsmy.itsmybot.ws.handler.role;
 
 import studio.itsmy.itsmybot.ItsMyBotPlugin;
+import studio.itsmy.itsmybot.configuration.advanced.RoleSyncConfig;
 import net.luckperms.api.LuckPerms;
 import net.luckperms.api.event.node.NodeMutateEvent;
+import net.luckperms.api.model.group.Group;
+import net.luckperms.api.model.user.User;
 import net.luckperms.api.node.Node;
 import net.luckperms.api.node.types.InheritanceNode;
 import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Coordinates LuckPerms mutations with the WebSocket role sync workflow.
@@ -27,16 +34,44 @@ import java.util.stream.Collectors;
  *   <li>If a group change is not in the expected map, a role sync update is sent to the bot
  *       to keep external systems in sync.</li>
  * </ol>
+ * Players are identified by their LuckPerms {@link User} UUID. When the groups inherited by a group change,
+ * its online members are updated over the next ticks, {@code role_sync.group_fanout_per_tick} players per tick.
+ * <p>
+ * Expected mutations that never happen (adding a group the player already has, for example) expire after
+ * {@code role_sync.expected_mutation_ttl_ms} and are removed by a periodic sweep.
+ * <p>
+ * Group deltas received from the bot are applied by {@link #applyDelta(UUID, List, List)} in one
+ * LuckPerms transaction per delta (a single load and save), off the server thread. Each group added or
+ * removed still fires its own {@link NodeMutateEvent}, each consuming its own expected mutation.
  */
 public class LuckPermsSyncManager {
 
     private final ItsMyBotPlugin plugin;
 
     /**
-     * For each player UUID, tracks expected mutations keyed by lower-cased group name,
-     * mapped to the action (ADD/REMOVE) we anticipate.
+     * For each player UUID, tracks expected mutations keyed by lower-cased (interned) group name,
+     * mapped to the action (ADD/REMOVE) we anticipate and its deadline.
      */
-    private final Map<UUID, Map<String, RoleChangeEvent.Action>> expectedMutations = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<String, Expected>> expectedMutations = new ConcurrentHashMap<>();
+
+    private final AtomicLong expired = new AtomicLong();
+
+    /** Last delta being applied per player, so that the deltas of a player apply in order. */
+    private final Map<UUID, CompletableFuture<Void>> applying = new ConcurrentHashMap<>();
+
+    /** Ids of the group names seen in mutations, and their names by id. */
+    private final Map<String, Integer> groupIds = new ConcurrentHashMap<>();
+    private final List<String> groupNames = new ArrayList<>();
+
+    /** Changed groups not picked up by the fan-out task yet (any thread). */
+    private final Queue<String> changedGroups = new ConcurrentLinkedQueue<>();
+
+    /** Changed groups whose online members are being updated (server thread only). */
+    private final Deque<FanOut> fanOuts = new ArrayDeque<>();
+
+    private LuckPerms luckPerms;
+    private BukkitTask sweepTask;
+    private BukkitTask fanOutTask;
 
     /**
      * Creates a new sync manager.
@@ -53,66 +88,163 @@ public class LuckPermsSyncManager {
      * @param luckPerms LuckPerms API entry point
      */
     public void init(LuckPerms luckPerms) {
+        this.luckPerms = luckPerms;
         luckPerms.getEventBus().subscribe(plugin, NodeMutateEvent.class, this::onNodeMutate);
+
+        final long sweepTicks = Math.max(20L, RoleSyncConfig.getExpectedMutationTtlMs() / 100);
+        this.sweepTask = plugin.getServer().getScheduler()
+                .runTaskTimerAsynchronously(plugin, this::sweep, sweepTicks, sweepTicks);
+        this.fanOutTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::fanOut, 1L, 1L);
+    }
+
+    /**
+     * Stops the sweep of expired mutations and the group fan-out.
+     */
+    public void shutdown() {
+        if (sweepTask != null) sweepTask.cancel();
+        if (fanOutTask != null) fanOutTask.cancel();
     }
 
     /**
      * Handles node mutations and detects untracked role changes.
      * <p>
-     * Computes the delta of inheritance nodes (groups) between before/after snapshots,
-     * consumes matching {@link #expectedMutations} entries, and if any remaining change
-     * is untracked, triggers a {@link RoleSyncUtil#sendRoleSyncUpdate}.
+     * Computes the delta of inheritance nodes (groups) between before/after snapshots on sorted group ids.
+     * For a user, consumes matching {@link #expectedMutations} entries, and if any remaining change
+     * is untracked and the player is online, triggers a {@link RoleSyncUtil#sendRoleSyncUpdate}.
+     * For a group, the online members of the group are updated by {@link #fanOut()} over the next ticks.
      *
      * @param event the node mutate event
      */
     private void onNodeMutate(NodeMutateEvent event) {
-        final String name = event.getTarget().getFriendlyName();
-        if (name.isEmpty()) return;
+        final int[] before = groupIdsOf(event.getDataBefore());
+        final int[] after = groupIdsOf(event.getDataAfter());
+        if (Arrays.equals(before, after)) return;
 
-        final Player player = plugin.getServer().getPlayer(name);
-        if (player == null || !player.isOnline()) return;
+        if (event.isGroup()) {
+            final String group = ((Group) event.getTarget()).getName();
+            changedGroups.add(group);
+            return;
+        }
+        if (!event.isUser()) return;
 
-        final UUID uuid = player.getUniqueId();
+        final UUID uuid = ((User) event.getTarget()).getUniqueId();
+        boolean hasUntrackedMutation = false;
 
-        final Set<String> added = getGroupNames(event.getDataAfter());
-        final Set<String> removed = getGroupNames(event.getDataBefore());
-        final Set<String> actuallyAdded = new HashSet<>(added);
-        final Set<String> actuallyRemoved = new HashSet<>(removed);
+        // delta = (after - before) / (before - after), merged on the sorted ids
+        int i = 0;
+        int j = 0;
+        while (i < before.length || j < after.length) {
+            if (j >= after.length || (i < before.length && before[i] < after[j])) {
+                hasUntrackedMutation |= !consumeExpected(uuid, nameOf(before[i++]), RoleChangeEvent.Action.REMOVE);
+            } else if (i >= before.length || after[j] < before[i]) {
+                hasUntrackedMutation |= !consumeExpected(uuid, nameOf(after[j++]), RoleChangeEvent.Action.ADD);
+            } else {
+                i++;
+                j++;
+            }
+        }
 
-        // delta = (after - before) / (before - after)
-        actuallyAdded.removeAll(removed);
-        actuallyRemoved.removeAll(added);
+        if (!hasUntrackedMutation) return;
+        final Player player = plugin.getServer().getPlayer(uuid);
+        if (player != null && player.isOnline()) {
+            RoleSyncUtil.sendRoleSyncUpdate(plugin, player);
+        }
+    }
 
-        boolean hasUntrackedMutation = false;
+    /**
+     * Updates the online members of changed groups, {@code role_sync.group_fanout_per_tick} players per tick.
+     */
+    private void fanOut() {
+        String group;
+        while ((group = changedGroups.poll()) != null) {
+            fanOuts.add(new FanOut(group, plugin.getServer().getOnlinePlayers().toArray(new Player[0])));
+        }
 
-        for (String group : actuallyAdded) {
-            if (!consumeExpected(uuid, group, RoleChangeEvent.Action.ADD)) {
-                hasUntrackedMutation = true;
+        int budget = RoleSyncConfig.getGroupFanoutPerTick();
+        while (budget > 0 && !fanOuts.isEmpty()) {
+            final FanOut fanOut = fanOuts.peek();
+            while (budget > 0 && fanOut.next < fanOut.players.length) {
+                final Player player = fanOut.players[fanOut.next++];
+                budget--;
+                if (player.isOnline() && player.hasPermission(fanOut.permission)) {
+                    RoleSyncUtil.sendRoleSyncUpdate(plugin, player);
+                }
+            }
+            if (fanOut.next >= fanOut.players.length) {
+                fanOuts.poll();
             }
         }
+    }
 
-        for (String group : actuallyRemoved) {
-            if (!consumeExpected(uuid, group, RoleChangeEvent.Action.REMOVE)) {
-                hasUntrackedMutation = true;
+    /**
+     * Extracts the sorted, distinct ids of the groups inherited by a collection of nodes
+     * (only {@link InheritanceNode}s).
+     *
+     * @param nodes LuckPerms nodes snapshot
+     * @return sorted group ids
+     */
+    private int[] groupIdsOf(Collection<? extends Node> nodes) {
+        final int[] ids = new int[nodes.size()];
+        int count = 0;
+        for (Node node : nodes) {
+            if (node instanceof InheritanceNode) {
+                ids[count++] = idOf(((InheritanceNode) node).getGroupName());
             }
         }
+        Arrays.sort(ids, 0, count);
 
-        if (hasUntrackedMutation) {
-            RoleSyncUtil.sendRoleSyncUpdate(plugin, player);
+        int distinct = 0;
+        for (int k = 0; k < count; k++) {
+            if (distinct == 0 || ids[distinct - 1] != ids[k]) ids[distinct++] = ids[k];
+        }
+        return distinct == ids.length ? ids : Arrays.copyOf(ids, distinct);
+    }
+
+    private int idOf(String group) {
+        final Integer id = groupIds.get(group);
+        if (id != null) return id;
+        return groupIds.computeIfAbsent(group, name -> {
+            synchronized (groupNames) {
+                groupNames.add(name);
+                return groupNames.size() - 1;
+            }
+        });
+    }
+
+    private String nameOf(int id) {
+        synchronized (groupNames) {
+            return groupNames.get(id);
         }
     }
 
     /**
-     * Extracts group names from a collection of nodes (only {@link InheritanceNode}s).
+     * Applies a group delta to a player in one {@link net.luckperms.api.model.user.UserManager#modifyUser}
+     * transaction: the user is loaded, modified and saved once, off the server thread.
+     * <p>
+     * Only the storage round trip is shared: LuckPerms fires one {@link NodeMutateEvent} per node added or
+     * removed, so a delta of N groups still produces N events (and N expected mutations to consume).
+     * <p>
+     * Expected mutations must be registered <strong>before</strong>. Deltas of the same player apply in
+     * the order of the calls.
      *
-     * @param nodes LuckPerms nodes snapshot
-     * @return set of group names
+     * @param uuid     player UUID
+     * @param toAdd    groups to add
+     * @param toRemove groups to remove
+     * @return a future completed once the user is saved
      */
-    private Set<String> getGroupNames(Collection<? extends Node> nodes) {
-        return nodes.stream()
-                .filter(InheritanceNode.class::isInstance)
-                .map(node -> ((InheritanceNode) node).getGroupName())
-                .collect(Collectors.toSet());
+    public CompletableFuture<Void> applyDelta(UUID uuid, List<String> toAdd, List<String> toRemove) {
+        final CompletableFuture<Void> future = applying.compute(uuid, (key, previous) ->
+                (previous == null ? CompletableFuture.<Void>completedFuture(null) : previous.handle((v, ex) -> (Void) null))
+                        .thenCompose(v -> luckPerms.getUserManager().modifyUser(uuid, user -> {
+                            for (String group : toAdd) {
+                                user.data().add(InheritanceNode.builder(group).build());
+                            }
+                            for (String group : toRemove) {
+                                user.data().remove(InheritanceNode.builder(group).build());
+                            }
+                        })));
+        future.whenComplete((v, ex) -> applying.remove(uuid, future));
+        return future;
     }
 
     /**
@@ -126,9 +258,13 @@ public class LuckPermsSyncManager {
      * @param action expected action (ADD/REMOVE)
      */
     public void registerExpectedMutation(UUID uuid, String group, RoleChangeEvent.Action action) {
-        expectedMutations
-                .computeIfAbsent(uuid, u -> new ConcurrentHashMap<>())
-                .put(group.toLowerCase(), action);
+        final Expected expected = new Expected(action,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RoleSyncConfig.getExpectedMutationTtlMs()));
+        expectedMutations.compute(uuid, (key, map) -> {
+            if (map == null) map = new ConcurrentHashMap<>(4);
+            map.put(group.toLowerCase().intern(), expected);
+            return map;
+        });
     }
 
     /**
@@ -137,17 +273,77 @@ public class LuckPermsSyncManager {
      * @return {@code true} if the mutation was expected and removed from the map
      */
     private boolean consumeExpected(UUID uuid, String group, RoleChangeEvent.Action action) {
-        final Map<String, RoleChangeEvent.Action> map = expectedMutations.get(uuid);
+        final Map<String, Expected> map = expectedMutations.get(uuid);
         if (map == null) return false;
 
-        final RoleChangeEvent.Action expected = map.get(group.toLowerCase());
-        if (expected == action) {
-            map.remove(group.toLowerCase());
-            if (map.isEmpty()) {
-                expectedMutations.remove(uuid);
+        final String key = group.toLowerCase();
+        final Expected expected = map.get(key);
+        if (expected == null || expected.action != action) return false;
+
+        map.remove(key, expected);
+        expectedMutations.computeIfPresent(uuid, (k, m) -> m.isEmpty() ? null : m);
+        return expected.deadline - System.nanoTime() > 0;
+    }
+
+    /**
+     * Removes the expected mutations past their deadline.
+     */
+    private void sweep() {
+        final long now = System.nanoTime();
+        for (Map.Entry<UUID, Map<String, Expected>> entry : expectedMutations.entrySet()) {
+            final Map<String, Expected> map = entry.getValue();
+            for (Map.Entry<String, Expected> mutation : map.entrySet()) {
+                if (mutation.getValue().deadline - now <= 0 && map.remove(mutation.getKey(), mutation.getValue())) {
+                    expired.incrementAndGet();
+                }
             }
-            return true;
+            expectedMutations.computeIfPresent(entry.getKey(), (k, m) -> m.isEmpty() ? null : m);
+        }
+    }
+
+    /** @return number of expected mutations currently tracked */
+    public int getExpectedCount() {
+        int count = 0;
+        for (Map<String, Expected> map : expectedMutations.values()) {
+            count += map.size();
+        }
+        return count;
+    }
+
+    /** @return number of changed groups whose online members are being updated */
+    public int getFanOutCount() {
+        return changedGroups.size() + fanOuts.size();
+    }
+
+    /** @return expected mutations removed by the sweep without having happened */
+    public long getExpiredCount() {
+        return expired.get();
+    }
+
+    /**
+     * A changed group and the online players to check for membership.
+     */
+    private static final class FanOut {
+        private final String permission;
+        private final Player[] players;
+        private int next;
+
+        private FanOut(String group, Player[] players) {
+            this.permission = "group." + group;
+            this.players = players;
+        }
+    }
+
+    /**
+     * An expected mutation and its deadline ({@link System#nanoTime()}).
+     */
+    private static final class Expected {
+        private final RoleChangeEvent.Action action;
+        private final long deadline;
+
+        private Expected(RoleChangeEvent.Action action, long deadline) {
+            this.action = action;
+            this.deadline = deadline;
         }
-        return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,209 @@
+package studio.itsmy.itsmybot.ws.handler.role;
+
+import studio.itsmy.itsmybot.ItsMyBotPlugin;
+import studio.itsmy.itsmybot.util.PluginLogger;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fingerprints of the group sets last acknowledged by the bot, per player.
+ * <p>
+ * A fingerprint is a 64-bit FNV-1a hash of the sorted, lower-cased group names. When a player's current
+ * groups match their fingerprint, a full sync carries the fingerprint only and the bot may answer
+ * {@code ROLE_SYNC_UNCHANGED}. The bot treats fingerprints as opaque values, so only the fingerprints of
+ * group sets the bot received and accepted without changes are recorded.
+ * <p>
+ * Fingerprints are kept in memory and saved every minute (when changed) and on shutdown to
+ * {@code role-fingerprints.bin}: a version, a count, then {@code (uuid msb, uuid lsb, fingerprint)} longs.
+ *
+ * <h2>Thread-safety</h2>
+ * All methods may be called from any thread.
+ */
+public class RoleFingerprints {
+
+    private static final int VERSION = 1;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long SAVE_PERIOD_TICKS = 1200L;
+
+    private final File file;
+    private final Map<UUID, Long> fingerprints = new ConcurrentHashMap<>();
+    private final BukkitTask saveTask;
+    private volatile boolean dirty;
+
+    private final AtomicLong matched = new AtomicLong();
+    private final AtomicLong unchanged = new AtomicLong();
+
+    /**
+     * Loads the saved fingerprints and starts saving them periodically.
+     *
+     * @param plugin the main plugin instance
+     */
+    public RoleFingerprints(ItsMyBotPlugin plugin) {
+        this.file = new File(plugin.getDataFolder(), "role-fingerprints.bin");
+        load();
+        this.saveTask = plugin.getServer().getScheduler()
+                .runTaskTimerAsynchronously(plugin, this::save, SAVE_PERIOD_TICKS, SAVE_PERIOD_TICKS);
+    }
+
+    /**
+     * Computes the fingerprint of a group set, regardless of order and case.
+     *
+     * @param groups group names
+     * @return the 64-bit fingerprint
+     */
+    public static long of(String[] groups) {
+        final String[] sorted = new String[groups.length];
+        for (int i = 0; i < groups.length; i++) {
+            sorted[i] = groups[i].toLowerCase();
+        }
+        Arrays.sort(sorted);
+
+        long hash = FNV_OFFSET;
+        String previous = null;
+        for (String group : sorted) {
+            if (group.equals(previous)) continue;
+            previous = group;
+            for (byte b : group.getBytes(StandardCharsets.UTF_8)) {
+                hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+            }
+            hash = (hash ^ '\n') * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Formats a fingerprint for JSON (16 hexadecimal digits, numbers would lose precision).
+     *
+     * @param fingerprint the fingerprint
+     * @return the formatted fingerprint
+     */
+    public static String format(long fingerprint) {
+        return String.format("%016x", fingerprint);
+    }
+
+    /**
+     * Checks whether a player's groups are the ones last acknowledged by the bot.
+     *
+     * @param uuid        player UUID
+     * @param fingerprint fingerprint of the current groups
+     * @return {@code true} if they match
+     */
+    public boolean matches(UUID uuid, long fingerprint) {
+        final Long acknowledged = fingerprints.get(uuid);
+        if (acknowledged == null || acknowledged != fingerprint) return false;
+        matched.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Records the groups acknowledged by the bot for a player.
+     *
+     * @param uuid        player UUID
+     * @param fingerprint fingerprint of the acknowledged groups
+     */
+    public void put(UUID uuid, long fingerprint) {
+        final Long previous = fingerprints.put(uuid, fingerprint);
+        if (previous == null || previous != fingerprint) dirty = true;
+    }
+
+    /**
+     * Forgets a player's fingerprint, so that their next sync carries their groups.
+     *
+     * @param uuid player UUID
+     */
+    public void remove(UUID uuid) {
+        if (fingerprints.remove(uuid) != null) dirty = true;
+    }
+
+    /**
+     * Records an {@code ROLE_SYNC_UNCHANGED} answer.
+     */
+    public void recordUnchanged() {
+        unchanged.incrementAndGet();
+    }
+
+    private void load() {
+        if (!file.isFile()) return;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (in.readInt() != VERSION) {
+                PluginLogger.warn("Ignoring role fingerprints saved by another version.");
+                return;
+            }
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                fingerprints.put(new UUID(in.readLong(), in.readLong()), in.readLong());
+            }
+        } catch (IOException e) {
+            PluginLogger.warn("Failed to read role fingerprints, full syncs will carry the groups: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Saves the fingerprints if they changed since the last save.
+     */
+    public synchronized void save() {
+        if (!dirty) return;
+        dirty = false;
+
+        final Path target = file.toPath();
+        final Path temp = new File(file.getParentFile(), file.getName() + ".tmp").toPath();
+        final Map<UUID, Long> snapshot = new HashMap<>(fingerprints);
+        try {
+            Files.createDirectories(target.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(VERSION);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<UUID, Long> entry : snapshot.entrySet()) {
+                    out.writeLong(entry.getKey().getMostSignificantBits());
+                    out.writeLong(entry.getKey().getLeastSignificantBits());
+                    out.writeLong(entry.getValue());
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            PluginLogger.warn("Failed to save role fingerprints: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the periodic save and saves the fingerprints one last time.
+     */
+    public void shutdown() {
+        saveTask.cancel();
+        save();
+    }
+
+    /** @return number of players with a fingerprint */
+    public int size() {
+        return fingerprints.size();
+    }
+
+    /** @return full syncs sent with the fingerprint only */
+    public long getMatchedCount() {
+        return matched.get();
+    }
+
+    /** @return {@code ROLE_SYNC_UNCHANGED} answers received */
+    public long getUnchangedCount() {
+        return unchanged.get();
+    }
+}
@@ -0,0 +1,243 @@
+package studio.itsmy.itsmybot.ws.handler.role;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.milkbowl.vault.permission.Permission;
+import studio.itsmy.itsmybot.ItsMyBotPlugin;
+import studio.itsmy.itsmybot.configuration.advanced.RoleSyncConfig;
+import studio.itsmy.itsmybot.configuration.essential.WSConfig;
+import studio.itsmy.itsmybot.util.PluginLogger;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the full role syncs of joining players and sends them as one {@code FULL_ROLE_SYNC_BATCH} request.
+ * <p>
+ * Players are collected for {@code role_sync.batch_window_ms}; a batch reaching {@code role_sync.batch_size}
+ * players is sent right away. Roles are read when the batch is sent, so they are current. The response
+ * carries one {@code ROLE_SYNC_SUCCESS} / {@code ROLE_SYNC_FAIL} result per player, applied as single syncs are:
+ * <pre>{@code
+ * // Request
+ * {
+ *   "type": "FULL_ROLE_SYNC_BATCH",
+ *   "server_id": "...",
+ *   "players": [ { "player_uuid": "...", "roles": ["group1", ...], "roles_fingerprint": "..." }, ... ]
+ * }
+ *
+ * // Response
+ * {
+ *   "type": "ROLE_SYNC_BATCH_RESULT",
+ *   "results": [
+ *     { "player_uuid": "...", "type": "ROLE_SYNC_SUCCESS", "add": [...], "remove": [...] },
+ *     { "player_uuid": "...", "type": "ROLE_SYNC_UNCHANGED" },
+ *     { "player_uuid": "...", "type": "ROLE_SYNC_FAIL", "reason": "..." }
+ *   ]
+ * }
+ * }</pre>
+ * A {@code ROLE_SYNC_FAIL} response to the whole batch applies to every player of it.
+ * <p>
+ * A batch rejected by the main thread queue goes back to the pending players and waits for the next window;
+ * a result rejected by it is retried as a single full sync (see {@link RoleSyncUtil}).
+ *
+ * <h2>Thread-safety</h2>
+ * Players may be added from any thread; batches are built and applied on the server thread.
+ */
+public class RoleSyncBatcher {
+
+    private static final String TYPE_BATCH = "FULL_ROLE_SYNC_BATCH";
+    private static final String TYPE_RESULT = "ROLE_SYNC_BATCH_RESULT";
+    private static final String TYPE_FAIL = "ROLE_SYNC_FAIL";
+
+    private final ItsMyBotPlugin plugin;
+
+    private Map<UUID, OfflinePlayer> pending = new LinkedHashMap<>();
+    private BukkitTask flushTask;
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong players = new AtomicLong();
+
+    /**
+     * Creates a new {@code RoleSyncBatcher}.
+     *
+     * @param plugin the main plugin instance
+     */
+    public RoleSyncBatcher(ItsMyBotPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Adds a player to the next batch. A player added twice is synced once.
+     *
+     * @param player target player
+     */
+    public void add(OfflinePlayer player) {
+        final boolean full;
+        synchronized (this) {
+            pending.put(player.getUniqueId(), player);
+            full = pending.size() >= RoleSyncConfig.getBatchSize();
+            if (!full) scheduleFlush();
+        }
+        if (full) {
+            try {
+                plugin.getMainThreadService().execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    scheduleFlush();
+                }
+            }
+        }
+    }
+
+    /**
+     * Schedules the end of the current window, unless it is already scheduled. Must hold the lock.
+     */
+    private void scheduleFlush() {
+        if (flushTask != null || !plugin.isEnabled()) return;
+        final long ticks = Math.max(1, (RoleSyncConfig.getBatchWindowMs() + 49) / 50);
+        flushTask = plugin.getServer().getScheduler().runTaskLater(plugin, this::flush, ticks);
+    }
+
+    /**
+     * Puts back the players of a batch that could not be queued, ahead of the players added since.
+     */
+    private synchronized void requeue(Map<UUID, OfflinePlayer> batch) {
+        final Map<UUID, OfflinePlayer> merged = new LinkedHashMap<>(batch);
+        merged.putAll(pending);
+        pending = merged;
+        scheduleFlush();
+    }
+
+    /**
+     * Sends the collected players, if any.
+     */
+    private void flush() {
+        final Map<UUID, OfflinePlayer> batch;
+        synchronized (this) {
+            if (flushTask != null) {
+                flushTask.cancel();
+                flushTask = null;
+            }
+            if (pending.isEmpty()) return;
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+
+        final Permission permission = plugin.getPermission();
+        if (permission == null) return;
+
+        // groups are read one player per task, so that the tick budget applies within the batch
+        final JsonArray entries = new JsonArray();
+        final Map<UUID, String[]> roles = new HashMap<>();
+        try {
+            plugin.getMainThreadService().executeEach(batch.values(), player -> {
+                final String[] playerRoles = permission.getPlayerGroups("global", player);
+                roles.put(player.getUniqueId(), playerRoles);
+
+                final JsonObject entry = new JsonObject();
+                entry.addProperty("player_uuid", player.getUniqueId().toString());
+                RoleSyncUtil.writeRoles(plugin, entry, player, playerRoles, true);
+                entries.add(entry);
+            }, () -> send(batch, roles, entries));
+        } catch (RejectedExecutionException e) {
+            requeue(batch);
+        }
+    }
+
+    /**
+     * Sends a batch once the groups of its players were read.
+     */
+    private void send(Map<UUID, OfflinePlayer> batch, Map<UUID, String[]> roles, JsonArray entries) {
+        if (entries.size() == 0) return;
+
+        final JsonObject request = new JsonObject();
+        request.addProperty("type", TYPE_BATCH);
+        request.addProperty("server_id", WSConfig.getServerId());
+        request.add("players", entries);
+
+        batches.incrementAndGet();
+        players.addAndGet(batch.size());
+
+        final String id = UUID.randomUUID().toString();
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () ->
+                plugin.getWSClient().sendRequest(request, id)
+                        .thenAccept(response -> handleResponse(batch, roles, response))
+                        .exceptionally(ex -> {
+                            PluginLogger.error("WebSocket role sync batch error: " + ex.getMessage());
+                            return null;
+                        })
+        );
+    }
+
+    /**
+     * Applies a batch response player by player, one server thread task per player.
+     */
+    private void handleResponse(Map<UUID, OfflinePlayer> batch, Map<UUID, String[]> roles, JsonObject response) {
+        final String responseType = response.has("type") ? response.get("type").getAsString() : "";
+        if (TYPE_FAIL.equals(responseType)) {
+            for (OfflinePlayer player : batch.values()) {
+                RoleSyncUtil.handleOnMainThread(plugin, player, () ->
+                        RoleSyncUtil.handleRoleSyncResponse(plugin, player, roles.get(player.getUniqueId()), response));
+            }
+            return;
+        }
+        if (!TYPE_RESULT.equals(responseType) || !response.has("results")) {
+            PluginLogger.warn("Unhandled role sync batch response: " + response);
+            return;
+        }
+
+        for (JsonElement element : response.getAsJsonArray("results")) {
+            final JsonObject result = element.getAsJsonObject();
+            final OfflinePlayer player = result.has("player_uuid")
+                    ? batch.get(parse(result.get("player_uuid").getAsString()))
+                    : null;
+            if (player == null) {
+                PluginLogger.warn("Ignoring role sync batch result for an unknown player: " + result);
+                continue;
+            }
+            RoleSyncUtil.handleOnMainThread(plugin, player, () ->
+                    RoleSyncUtil.handleRoleSyncResponse(plugin, player, roles.get(player.getUniqueId()), result));
+        }
+    }
+
+    private static UUID parse(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stops waiting for the current window; players not sent yet are dropped.
+     */
+    public synchronized void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        pending.clear();
+    }
+
+    /** @return number of players waiting for the next batch */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /** @return batches sent */
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    /** @return players synced through batches */
+    public long getPlayerCount() {
+        return players.get();
+    }
+}
@@ -0,0 +1,127 @@
+package studio.itsmy.itsmybot.ws.handler.role;
+
+import studio.itsmy.itsmybot.ItsMyBotPlugin;
+import studio.itsmy.itsmybot.configuration.advanced.RoleSyncConfig;
+import org.bukkit.OfflinePlayer;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collapses bursts of local group changes of a player into one {@code ROLE_SYNC_UPDATE}.
+ * <p>
+ * The update is sent once the player's groups stayed unchanged for {@code role_sync.update_debounce_ms}
+ * (or after {@code role_sync.update_max_delay_ms} of continuous changes), carrying the groups read at
+ * that time.
+ *
+ * <h2>Thread-safety</h2>
+ * Changes may be reported from any thread; updates are sent from the server thread.
+ */
+public class RoleSyncDebouncer {
+
+    private final ItsMyBotPlugin plugin;
+    private final Map<UUID, Pending> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Creates a new {@code RoleSyncDebouncer}.
+     *
+     * @param plugin the main plugin instance
+     */
+    public RoleSyncDebouncer(ItsMyBotPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Records a local group change of a player, delaying their update until the changes stop.
+     *
+     * @param player target player
+     */
+    public void changed(OfflinePlayer player) {
+        final UUID uuid = player.getUniqueId();
+        final long now = System.nanoTime();
+        final boolean[] created = new boolean[1];
+        pending.compute(uuid, (key, current) -> {
+            if (current == null) {
+                created[0] = true;
+                return new Pending(player, now);
+            }
+            current.last = now;
+            return current;
+        });
+
+        if (created[0]) {
+            schedule(uuid, TimeUnit.MILLISECONDS.toNanos(RoleSyncConfig.getUpdateDebounceMs()));
+        } else {
+            coalesced.incrementAndGet();
+        }
+    }
+
+    private void schedule(UUID uuid, long delayNanos) {
+        final long ticks = Math.max(1, (TimeUnit.NANOSECONDS.toMillis(delayNanos) + 49) / 50);
+        plugin.getServer().getScheduler().runTaskLater(plugin, () -> fire(uuid), ticks);
+    }
+
+    /**
+     * Sends the update of a player if their changes stopped, or waits for the remaining time.
+     */
+    private void fire(UUID uuid) {
+        final Pending current = pending.get(uuid);
+        if (current == null) return;
+
+        final long due = Math.min(current.last + TimeUnit.MILLISECONDS.toNanos(RoleSyncConfig.getUpdateDebounceMs()),
+                current.first + TimeUnit.MILLISECONDS.toNanos(RoleSyncConfig.getUpdateMaxDelayMs()));
+        final long remaining = due - System.nanoTime();
+        if (remaining > 0) {
+            schedule(uuid, remaining);
+            return;
+        }
+
+        // a change reported from now on starts a new update
+        pending.remove(uuid);
+        sent.incrementAndGet();
+        RoleSyncUtil.sendRoleSyncUpdateNow(plugin, current.player);
+    }
+
+    /**
+     * Drops the updates not sent yet.
+     */
+    public void shutdown() {
+        pending.clear();
+    }
+
+    /** @return number of players whose update is waiting */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /** @return updates sent */
+    public long getSentCount() {
+        return sent.get();
+    }
+
+    /** @return changes merged into an update already waiting */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * An update waiting for the changes of a player to stop.
+     */
+    private static final class Pending {
+        private final OfflinePlayer player;
+        private final long first;
+        private volatile long last;
+
+        private Pending(OfflinePlayer player, long now) {
+            this.player = player;
+            this.first = now;
+            this.last = now;
+        }
+    }
+}
@@ -6,13 +6,16 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 import net.luckperms.api.event.node.NodeMutateEvent;
 import studio.itsmy.itsmybot.ItsMyBotPlugin;
+import studio.itsmy.itsmybot.configuration.advanced.RoleSyncConfig;
 import studio.itsmy.itsmybot.configuration.essential.WSConfig;
 import studio.itsmy.itsmybot.util.PluginLogger;
+import studio.itsmy.itsmybot.ws.message.SyncRoleMessage;
 import net.milkbowl.vault.permission.Permission;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Utility methods for initiating and applying role synchronizations with the WebSocket backend.
@@ -22,7 +25,7 @@ import java.util.*;
  *   <li>Build and send role sync requests (full or update) with current player groups.</li>
  *   <li>Handle responses:
  *       <ul>
- *         <li>{@code ROLE_SYNC_SUCCESS}: apply add/remove deltas via Vault</li>
+ *         <li>{@code ROLE_SYNC_SUCCESS}: apply add/remove deltas via LuckPerms (or Vault)</li>
  *         <li>{@code ROLE_SYNC_FAIL}: log reason</li>
  *       </ul>
  *   </li>
@@ -36,7 +39,8 @@ import java.util.*;
  *   "type": "FULL_ROLE_SYNC" | "ROLE_SYNC_UPDATE",
  *   "server_id": "...",
  *   "player_uuid": "...",
- *   "roles": ["group1", "group2", ...]
+ *   "roles": ["group1", "group2", ...],       // omitted from a full sync when the fingerprint is acknowledged
+ *   "roles_fingerprint": "0123456789abcdef"   // with role_sync.fingerprints only
  * }
  *
  * // Success response
@@ -46,7 +50,10 @@ import java.util.*;
  *   "remove": ["groupY", ...]
  * }
  *
- * // Failure response
+ * // Groups unchanged (fingerprint-only full sync)
+ * { "type": "ROLE_SYNC_UNCHANGED" }
+ *
+ * // Failure response ("UNKNOWN_FINGERPRINT": the full sync is sent again with the groups)
  * { "type": "ROLE_SYNC_FAIL", "reason": "..." }
  * }</pre>
  */
@@ -56,6 +63,11 @@ public final class RoleSyncUtil {
     private static final String TYPE_UPDATE = "ROLE_SYNC_UPDATE";
     private static final String TYPE_SUCCESS = "ROLE_SYNC_SUCCESS";
     private static final String TYPE_FAIL = "ROLE_SYNC_FAIL";
+    private static final String TYPE_UNCHANGED = "ROLE_SYNC_UNCHANGED";
+    private static final String REASON_UNKNOWN_FINGERPRINT = "UNKNOWN_FINGERPRINT";
+
+    /** Delay before a player whose response could not be handled is synced again. */
+    private static final long RETRY_DELAY_TICKS = 100L;
 
     /** Private constructor to prevent instantiation. */
     private RoleSyncUtil() {
@@ -63,21 +75,45 @@ public final class RoleSyncUtil {
 
     /**
      * Sends a full role sync request for the given player (on join, for example).
+     * <p>
+     * When {@code role_sync.batch_enabled} is set, the player joins the next
+     * {@code FULL_ROLE_SYNC_BATCH} of the {@link RoleSyncBatcher} instead.
      *
      * @param plugin plugin instance
      * @param player target player (online or offline)
      */
     public static void sendFullRoleSync(ItsMyBotPlugin plugin, OfflinePlayer player) {
+        if (RoleSyncConfig.isBatchEnabled()) {
+            plugin.getRoleSyncBatcher().add(player);
+            return;
+        }
         sendRoleSync(plugin, player, TYPE_FULL_SYNC);
     }
 
     /**
      * Sends a differential update request (triggered on untracked local changes).
+     * <p>
+     * Unless {@code role_sync.update_debounce_ms} is {@code 0}, the request waits in the
+     * {@link RoleSyncDebouncer} until the player's changes stop.
      *
      * @param plugin plugin instance
      * @param player target player
      */
     public static void sendRoleSyncUpdate(ItsMyBotPlugin plugin, OfflinePlayer player) {
+        if (RoleSyncConfig.getUpdateDebounceMs() > 0) {
+            plugin.getRoleSyncDebouncer().changed(player);
+            return;
+        }
+        sendRoleSyncUpdateNow(plugin, player);
+    }
+
+    /**
+     * Sends a differential update request right away.
+     *
+     * @param plugin plugin instance
+     * @param player target player
+     */
+    static void sendRoleSyncUpdateNow(ItsMyBotPlugin plugin, OfflinePlayer player) {
         sendRoleSync(plugin, player, TYPE_UPDATE);
     }
 
@@ -97,31 +133,88 @@ public final class RoleSyncUtil {
         request.addProperty("server_id", WSConfig.getServerId());
         request.addProperty("player_uuid", player.getUniqueId().toString());
 
-        final JsonArray roles = Arrays.stream(permission.getPlayerGroups("global", player))
-                .map(JsonPrimitive::new)
-                .collect(JsonArray::new, JsonArray::add, JsonArray::addAll);
-        request.add("roles", roles);
+        final String[] roles = permission.getPlayerGroups("global", player);
+        writeRoles(plugin, request, player, roles, TYPE_FULL_SYNC.equals(type));
 
         final String id = UUID.randomUUID().toString();
         Bukkit.getScheduler().runTaskAsynchronously(plugin, () ->
                 plugin.getWSClient().sendRequest(request, id)
-                        .thenAccept(response -> Bukkit.getScheduler().runTask(plugin, () ->
-                                handleRoleSyncResponse(plugin, player, response)))
+                        .thenAccept(response -> handleOnMainThread(plugin, player, () ->
+                                handleRoleSyncResponse(plugin, player, roles, response)))
                         .exceptionally(ex -> {
-                            Bukkit.getScheduler().runTask(plugin, () ->
-                                    PluginLogger.error("WebSocket role sync error: " + ex.getMessage()));
+                            PluginLogger.error("WebSocket role sync error: " + ex.getMessage());
                             return null;
                         })
         );
     }
 
+    /**
+     * Queues the handling of a role sync response on the server thread.
+     * <p>
+     * If the main thread queue rejects it, the response is lost: the player is fully synced again a few
+     * seconds later, which brings the delta back.
+     *
+     * @param plugin  plugin instance
+     * @param player  target player
+     * @param handler response handling
+     */
+    static void handleOnMainThread(ItsMyBotPlugin plugin, OfflinePlayer player, Runnable handler) {
+        try {
+            plugin.getMainThreadService().execute(handler);
+        } catch (RejectedExecutionException e) {
+            syncLater(plugin, player);
+        }
+    }
+
+    /**
+     * Sends a full role sync for a player after {@link #RETRY_DELAY_TICKS}, unless the plugin is disabled.
+     */
+    private static void syncLater(ItsMyBotPlugin plugin, OfflinePlayer player) {
+        if (!plugin.isEnabled()) return;
+        Bukkit.getScheduler().runTaskLater(plugin, () -> sendFullRoleSync(plugin, player), RETRY_DELAY_TICKS);
+    }
+
+    /**
+     * Writes the groups of a player into a sync request.
+     * <p>
+     * With {@code role_sync.fingerprints}, the request also carries their {@code roles_fingerprint}; when the
+     * groups are the ones last acknowledged by the bot, a full sync carries the fingerprint only.
+     *
+     * @param plugin          plugin instance
+     * @param target          request (or batch entry) to write into
+     * @param player          target player
+     * @param roles           current groups of the player
+     * @param fingerprintOnly {@code true} if the groups may be omitted (full syncs)
+     */
+    static void writeRoles(ItsMyBotPlugin plugin, JsonObject target, OfflinePlayer player, String[] roles,
+                           boolean fingerprintOnly) {
+        if (RoleSyncConfig.isFingerprints()) {
+            final long fingerprint = RoleFingerprints.of(roles);
+            target.addProperty("roles_fingerprint", RoleFingerprints.format(fingerprint));
+            if (fingerprintOnly && plugin.getRoleFingerprints().matches(player.getUniqueId(), fingerprint)) return;
+        }
+
+        target.add("roles", Arrays.stream(roles)
+                .map(JsonPrimitive::new)
+                .collect(JsonArray::new, JsonArray::add, JsonArray::addAll));
+    }
+
     /**
      * Handles a role sync response from the backend.
      * <p>
-     * On success, extracts add/remove lists and applies them via Vault, after registering
-     * expected mutations in {@link LuckPermsSyncManager} to avoid feedback loops.
+     * On success, extracts add/remove lists and applies them via LuckPerms (or Vault), after registering
+     * expected mutations in {@link LuckPermsSyncManager} to avoid feedback loops. The groups sent are recorded
+     * in {@link RoleFingerprints} when the bot accepted them as they are ({@code ROLE_SYNC_UNCHANGED}, or a
+     * success without changes); after changes, the fingerprint is forgotten.
+     * A fingerprint unknown to the bot is forgotten and the full sync sent again with the groups.
+     *
+     * @param plugin   plugin instance
+     * @param player   target player
+     * @param roles    groups sent in the request
+     * @param response the response (or batch result)
      */
-    private static void handleRoleSyncResponse(ItsMyBotPlugin plugin, OfflinePlayer player, JsonObject response) {
+    static void handleRoleSyncResponse(ItsMyBotPlugin plugin, OfflinePlayer player, String[] roles,
+                                       JsonObject response) {
         final Permission perm = plugin.getPermission();
         if (perm == null) return;
 
@@ -129,8 +222,18 @@ public final class RoleSyncUtil {
         switch (responseType) {
             case TYPE_SUCCESS:
                 applyRoleChanges(plugin, player, response);
+                recordFingerprint(plugin, player, roles, response);
+                break;
+            case TYPE_UNCHANGED:
+                plugin.getRoleFingerprints().recordUnchanged();
+                recordFingerprint(plugin, player, roles, response);
                 break;
             case TYPE_FAIL:
+                if (response.has("reason") && REASON_UNKNOWN_FINGERPRINT.equals(response.get("reason").getAsString())) {
+                    plugin.getRoleFingerprints().remove(player.getUniqueId());
+                    sendRoleSync(plugin, player, TYPE_FULL_SYNC);
+                    break;
+                }
                 logRoleSyncFailure(player, response);
                 break;
             default:
@@ -139,11 +242,28 @@ public final class RoleSyncUtil {
     }
 
     /**
-     * Registers expected mutations then applies group deltas via Vault.
+     * Records the fingerprint of the groups sent, if the bot acknowledged them without changes.
      * <p>
-     * This ordering is <strong>critical</strong>: mutations must be registered before calling
-     * {@code playerAddGroup}/{@code playerRemoveGroup} to ensure {@link NodeMutateEvent}
-     * recognizes them as expected.
+     * Fingerprints are opaque to the bot, which only knows the ones it received: after changes, the groups
+     * of the player differ from any fingerprint the bot received, so it is forgotten and the next full sync
+     * carries the groups.
+     */
+    private static void recordFingerprint(ItsMyBotPlugin plugin, OfflinePlayer player, String[] roles,
+                                          JsonObject response) {
+        if (!RoleSyncConfig.isFingerprints()) return;
+
+        if (extractStringList(response, "add").isEmpty() && extractStringList(response, "remove").isEmpty()) {
+            plugin.getRoleFingerprints().put(player.getUniqueId(), RoleFingerprints.of(roles));
+        } else {
+            plugin.getRoleFingerprints().remove(player.getUniqueId());
+        }
+    }
+
+    /**
+     * Registers expected mutations then applies group deltas.
+     * <p>
+     * This ordering is <strong>critical</strong>: mutations must be registered before the groups
+     * change to ensure {@link NodeMutateEvent} recognizes them as expected.
      */
     private static void applyRoleChanges(ItsMyBotPlugin plugin, OfflinePlayer player, JsonObject response) {
         final Permission perm = plugin.getPermission();
@@ -154,20 +274,35 @@ public final class RoleSyncUtil {
         final List<String> toRemove = extractStringList(response, "remove");
 
         final LuckPermsSyncManager syncManager = plugin.getLpSyncManager();
-        registerExpectedMutations(player, perm, uuid, toAdd, toRemove, syncManager);
+        registerExpectedMutations(plugin, player, perm, uuid, toAdd, toRemove, syncManager);
     }
 
     /**
-     * Registers expected mutations and applies them via Vault.
+     * Registers expected mutations and applies them.
+     * <p>
+     * With LuckPerms, the whole delta is applied in one transaction off the server thread
+     * ({@link LuckPermsSyncManager#applyDelta(UUID, List, List)}), saving the user once; each group still
+     * fires its own {@link NodeMutateEvent}. Vault is used without LuckPerms, or on the server thread if the
+     * transaction fails.
      *
+     * @param plugin      plugin instance
      * @param player      target player
      * @param perm        Vault Permission service
      * @param uuid        player uuid
      * @param toAdd       groups to add
      * @param toRemove    groups to remove
-     * @param syncManager sync manager to mark expected mutations
+     * @param syncManager sync manager to mark expected mutations ({@code null} without LuckPerms)
      */
-    private static void registerExpectedMutations(OfflinePlayer player, Permission perm, UUID uuid, List<String> toAdd, List<String> toRemove, LuckPermsSyncManager syncManager) {
+    private static void registerExpectedMutations(ItsMyBotPlugin plugin, OfflinePlayer player, Permission perm, UUID uuid,
+                                                  List<String> toAdd, List<String> toRemove, LuckPermsSyncManager syncManager) {
+        if (toAdd.isEmpty() && toRemove.isEmpty()) return;
+
+        if (syncManager == null) {
+            applyRoleDelta(perm, player, toAdd, true);
+            applyRoleDelta(perm, player, toRemove, false);
+            return;
+        }
+
         for (String role : toAdd) {
             syncManager.registerExpectedMutation(uuid, role, RoleChangeEvent.Action.ADD);
         }
@@ -175,8 +310,15 @@ public final class RoleSyncUtil {
             syncManager.registerExpectedMutation(uuid, role, RoleChangeEvent.Action.REMOVE);
         }
 
-        applyRoleDelta(perm, player, toAdd, true);
-        applyRoleDelta(perm, player, toRemove, false);
+        syncManager.applyDelta(uuid, toAdd, toRemove).exceptionally(ex -> {
+            handleOnMainThread(plugin, player, () -> {
+                PluginLogger.warn("LuckPerms could not apply the role changes of " + player.getName()
+                        + ", applying them through Vault: " + ex.getMessage());
+                applyRoleDelta(perm, player, toAdd, true);
+                applyRoleDelta(perm, player, toRemove, false);
+            });
+            return null;
+        });
     }
 
     /**
@@ -205,27 +347,24 @@ public final class RoleSyncUtil {
     /**
      * Handles an incoming push message {@code SYNC_ROLE} from the backend.
      * <p>
-     * Extracts add/remove lists, registers them as expected, then applies them via Vault.
+     * Registers the add/remove lists as expected, then applies them.
      *
      * @param plugin  plugin instance
-     * @param message JSON message containing {@code player_uuid}, {@code add}, {@code remove}
+     * @param message message containing {@code player_uuid}, {@code add}, {@code remove}
      */
-    public static void handleSyncRole(ItsMyBotPlugin plugin, JsonObject message) {
+    public static void handleSyncRole(ItsMyBotPlugin plugin, SyncRoleMessage message) {
         final Permission perm = plugin.getPermission();
         if (perm == null) return;
 
-        final UUID uuid = UUID.fromString(message.get("player_uuid").getAsString());
-        final OfflinePlayer player = plugin.getServer().getOfflinePlayer(uuid);
-        if (player == null || !player.hasPlayedBefore()) {
+        final UUID uuid = UUID.fromString(message.getPlayerUuid());
+        final OfflinePlayer player = plugin.getPlayerIndexService().find(uuid);
+        if (player == null) {
             return;
         }
 
         final LuckPermsSyncManager syncManager = plugin.getLpSyncManager();
 
-        final List<String> toAdd = extractStringList(message, "add");
-        final List<String> toRemove = extractStringList(message, "remove");
-
-        registerExpectedMutations(player, perm, uuid, toAdd, toRemove, syncManager);
+        registerExpectedMutations(plugin, player, perm, uuid, message.getAdd(), message.getRemove(), syncManager);
     }
 
     /**
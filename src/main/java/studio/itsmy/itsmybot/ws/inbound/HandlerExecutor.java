@@ -0,0 +1,176 @@
+package studio.itsmy.itsmybot.ws.inbound;
+
+import studio.itsmy.itsmybot.util.PluginLogger;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded executor running the {@link ThreadingMode#ASYNC} inbound handlers.
+ * <p>
+ * It keeps the OkHttp reader thread free: the reader only decodes frames and hands them over, so a slow
+ * handler (offline player lookups, permission mutations) never delays the frames behind it.
+ *
+ * <h2>Threads</h2>
+ * On Java 21 and newer, each task runs on its own virtual thread (looked up reflectively, the plugin
+ * targets Java 8). Otherwise a fixed pool of daemon platform threads is used.
+ *
+ * <h2>Bounds</h2>
+ * At most {@code maxPending} tasks are queued or running at once; beyond that
+ * {@link #execute(Runnable)} throws {@link RejectedExecutionException} instead of blocking the caller.
+ * Per-type ordering and concurrency limits are handled by {@link InboundRegistry}.
+ *
+ * <h2>Thread-safety</h2>
+ * All methods may be called from any thread.
+ */
+public class HandlerExecutor implements Executor {
+
+    private final ExecutorService delegate;
+    private final boolean virtual;
+    private final int maxPending;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong queueNanos = new AtomicLong();
+    private final AtomicLong maxQueueNanos = new AtomicLong();
+
+    /**
+     * Creates a new executor.
+     *
+     * @param virtualThreads use virtual threads when available
+     * @param threads        platform pool size, used when virtual threads are unavailable or disabled
+     * @param maxPending     maximum number of tasks queued or running
+     */
+    public HandlerExecutor(boolean virtualThreads, int threads, int maxPending) {
+        final ExecutorService virtualExecutor = virtualThreads ? newVirtualExecutor() : null;
+        this.virtual = virtualExecutor != null;
+        this.delegate = virtual ? virtualExecutor : newPlatformExecutor(threads);
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor.
+     *
+     * @return the executor, or {@code null} before Java 21
+     */
+    private static ExecutorService newVirtualExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService newPlatformExecutor(int threads) {
+        final AtomicInteger index = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), task -> {
+            final Thread thread = new Thread(task, "ItsMyBot-Handler-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a task.
+     *
+     * @param task the task
+     * @throws RejectedExecutionException if {@code maxPending} tasks are already queued or running,
+     *                                    or the executor is shut down
+     */
+    @Override
+    public void execute(Runnable task) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException("Inbound handler queue is full (" + maxPending + ")");
+        }
+
+        final long queuedAt = System.nanoTime();
+        try {
+            delegate.execute(() -> {
+                recordQueueTime(System.nanoTime() - queuedAt);
+                active.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    active.decrementAndGet();
+                    pending.decrementAndGet();
+                    completed.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            rejected.incrementAndGet();
+            throw e;
+        }
+    }
+
+    private void recordQueueTime(long nanos) {
+        queueNanos.addAndGet(nanos);
+        long max;
+        while (nanos > (max = maxQueueNanos.get()) && !maxQueueNanos.compareAndSet(max, nanos)) {
+            // retry
+        }
+    }
+
+    /**
+     * Stops the threads, waiting briefly for running handlers.
+     */
+    public void shutdown() {
+        delegate.shutdown();
+        try {
+            if (!delegate.awaitTermination(2, TimeUnit.SECONDS)) {
+                PluginLogger.warn("Inbound handlers still running after shutdown, interrupting them.");
+                delegate.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            delegate.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** @return {@code true} if tasks run on virtual threads */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /** @return tasks waiting for a thread */
+    public int getQueuedCount() {
+        return Math.max(0, pending.get() - active.get());
+    }
+
+    /** @return tasks currently running */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /** @return tasks finished (successfully or not) */
+    public long getCompletedCount() {
+        return completed.get();
+    }
+
+    /** @return tasks rejected because the executor was full or shut down */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /** @return average time a task waited for a thread, in microseconds */
+    public long getAverageQueueMicros() {
+        final long count = completed.get() + active.get();
+        return count == 0 ? 0 : queueNanos.get() / count / 1000;
+    }
+
+    /** @return longest time a task waited for a thread, in microseconds */
+    public long getMaxQueueMicros() {
+        return maxQueueNanos.get() / 1000;
+    }
+}
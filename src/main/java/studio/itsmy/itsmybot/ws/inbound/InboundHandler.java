@@ -0,0 +1,19 @@
+package studio.itsmy.itsmybot.ws.inbound;
+
+/**
+ * Handler of a message type pushed by the bot.
+ *
+ * @param <T> message class the frame is bound to
+ * @see InboundRegistry
+ */
+@FunctionalInterface
+public interface InboundHandler<T> {
+
+    /**
+     * Handles a message.
+     *
+     * @param message the bound message
+     * @throws Exception any failure, logged by the registry
+     */
+    void handle(T message) throws Exception;
+}
@@ -0,0 +1,302 @@
+package studio.itsmy.itsmybot.ws.inbound;
+
+import com.google.gson.JsonObject;
+import studio.itsmy.itsmybot.util.PluginLogger;
+import studio.itsmy.itsmybot.ws.message.InboundMessage;
+import studio.itsmy.itsmybot.ws.message.MessageReader;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registry of handlers for the message types pushed by the bot.
+ * <p>
+ * Each message type maps to one handler, looked up in O(1) for every inbound frame. A registration declares:
+ * <ul>
+ *   <li>the <b>message class</b> the frame is bound to: a subclass of {@link InboundMessage} (streamed from
+ *       the JSON text, no tree is built) or {@link JsonObject} for raw access;</li>
+ *   <li>the {@link ThreadingMode} it runs on;</li>
+ *   <li>a <b>concurrency limit</b> ({@code ASYNC}/{@code MAIN} only): messages beyond it wait in a
+ *       per-type backlog, in order.</li>
+ * </ul>
+ * Backlogs are bounded ({@code inbound.max_backlog}): a flood of one type drops its own messages
+ * instead of delaying the others or growing without limit. Messages the executor rejects are dropped too.
+ *
+ * <h2>Public API</h2>
+ * The registry is exposed through Bukkit's services manager, so other plugins can handle new bot features
+ * (broadcasts, kicks, ...) without forking:
+ * <pre>{@code
+ * InboundRegistry registry = Bukkit.getServicesManager().load(InboundRegistry.class);
+ * registry.register("BROADCAST", JsonObject.class, ThreadingMode.MAIN, 1,
+ *         json -> Bukkit.broadcastMessage(json.get("message").getAsString()));
+ * }</pre>
+ * Plugins should {@link #unregister(String) unregister} their types when disabled.
+ * <p>
+ * Frames whose {@code id} matches a pending request are responses and complete that request instead;
+ * only types bound to {@link JsonObject} can be both handled and used as responses.
+ *
+ * <h2>Thread-safety</h2>
+ * Registration and dispatch may happen from any thread.
+ */
+public class InboundRegistry {
+
+    private final Map<String, Registration<?>> registrations = new ConcurrentHashMap<>();
+
+    private final Executor asyncExecutor;
+    private final Executor mainExecutor;
+    private final int maxBacklog;
+
+    /**
+     * Creates a new registry.
+     *
+     * @param asyncExecutor runs {@link ThreadingMode#ASYNC} handlers
+     * @param mainExecutor  runs {@link ThreadingMode#MAIN} handlers on the server thread
+     * @param maxBacklog    maximum number of messages waiting per type
+     */
+    public InboundRegistry(Executor asyncExecutor, Executor mainExecutor, int maxBacklog) {
+        this.asyncExecutor = asyncExecutor;
+        this.mainExecutor = mainExecutor;
+        this.maxBacklog = maxBacklog;
+    }
+
+    /**
+     * Registers a handler without concurrency limit.
+     *
+     * @see #register(String, Class, ThreadingMode, int, InboundHandler)
+     */
+    public <T> void register(String type, Class<T> messageClass, ThreadingMode mode, InboundHandler<? super T> handler) {
+        register(type, messageClass, mode, 0, handler);
+    }
+
+    /**
+     * Registers a handler for a message type.
+     *
+     * @param type           message type (the {@code type} field of the frame)
+     * @param messageClass   class the frame is bound to: an {@link InboundMessage} subclass, or {@link JsonObject}
+     * @param mode           thread the handler runs on
+     * @param maxConcurrency maximum number of messages of this type handled at once, {@code 0} for no limit
+     *                       (ignored for {@link ThreadingMode#IO})
+     * @param handler        the handler
+     * @param <T>            message class
+     * @throws IllegalArgumentException if the type is already registered
+     */
+    public <T> void register(String type, Class<T> messageClass, ThreadingMode mode, int maxConcurrency,
+                             InboundHandler<? super T> handler) {
+        final Registration<T> registration = new Registration<>(type, messageClass, mode, maxConcurrency, handler);
+        if (registrations.putIfAbsent(type, registration) != null) {
+            throw new IllegalArgumentException("A handler is already registered for " + type);
+        }
+    }
+
+    /**
+     * Removes the handler of a message type.
+     *
+     * @param type message type
+     * @return {@code true} if a handler was registered
+     */
+    public boolean unregister(String type) {
+        return registrations.remove(type) != null;
+    }
+
+    /**
+     * Checks whether a message type has a handler.
+     *
+     * @param type message type
+     * @return {@code true} if registered
+     */
+    public boolean isRegistered(String type) {
+        return registrations.containsKey(type);
+    }
+
+    /**
+     * Gets the registered message types.
+     *
+     * @return an unmodifiable view of the types
+     */
+    public Set<String> getTypes() {
+        return Collections.unmodifiableSet(registrations.keySet());
+    }
+
+    /**
+     * Gets the registration of a message type (dispatch side).
+     *
+     * @param type message type (nullable)
+     * @return the registration, or {@code null}
+     */
+    public Registration<?> get(String type) {
+        return type == null ? null : registrations.get(type);
+    }
+
+    /**
+     * A message type bound to its handler, with its backlog and counters.
+     *
+     * @param <T> message class
+     */
+    public final class Registration<T> {
+
+        private final String type;
+        private final Class<T> messageClass;
+        private final ThreadingMode mode;
+        private final int maxConcurrency;
+        private final InboundHandler<? super T> handler;
+
+        private final Queue<T> backlog = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger backlogSize = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicLong handled = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+
+        private Registration(String type, Class<T> messageClass, ThreadingMode mode, int maxConcurrency,
+                             InboundHandler<? super T> handler) {
+            this.type = type;
+            this.messageClass = messageClass;
+            this.mode = mode;
+            this.maxConcurrency = Math.max(0, maxConcurrency);
+            this.handler = handler;
+        }
+
+        /**
+         * Checks whether frames of this type can be streamed into their message class without a tree.
+         *
+         * @return {@code true} for {@link InboundMessage} subclasses
+         */
+        public boolean isStreamable() {
+            return InboundMessage.class.isAssignableFrom(messageClass);
+        }
+
+        /**
+         * Binds an already parsed frame to the message class and dispatches it.
+         *
+         * @param reader message reader
+         * @param json   parsed frame
+         * @throws com.google.gson.JsonParseException if the frame does not match the message class
+         */
+        public void dispatch(MessageReader reader, JsonObject json) {
+            dispatch(messageClass == JsonObject.class ? messageClass.cast(json) : reader.read(json, messageClass));
+        }
+
+        /**
+         * Streams JSON text into the message class, without dispatching it.
+         *
+         * @param reader message reader
+         * @param json   JSON text
+         * @return the bound message
+         */
+        public T bind(MessageReader reader, String json) {
+            return reader.read(json, messageClass);
+        }
+
+        /**
+         * Runs the handler on its thread, within the concurrency limit.
+         *
+         * @param message bound message
+         */
+        public void dispatch(T message) {
+            if (mode == ThreadingMode.IO) {
+                run(message);
+                return;
+            }
+            if (backlogSize.incrementAndGet() > maxBacklog) {
+                backlogSize.decrementAndGet();
+                drop("backlog is full (" + maxBacklog + ")");
+                return;
+            }
+            backlog.add(message);
+            drain();
+        }
+
+        /**
+         * Starts backlog messages while under the concurrency limit.
+         */
+        private void drain() {
+            while (!backlog.isEmpty()) {
+                final int current = running.get();
+                if (maxConcurrency > 0 && current >= maxConcurrency) return;
+                if (!running.compareAndSet(current, current + 1)) continue;
+
+                final T message = backlog.poll();
+                if (message == null) {
+                    running.decrementAndGet();
+                    continue;
+                }
+                backlogSize.decrementAndGet();
+
+                final Executor executor = mode == ThreadingMode.MAIN ? mainExecutor : asyncExecutor;
+                try {
+                    executor.execute(() -> {
+                        try {
+                            run(message);
+                        } finally {
+                            running.decrementAndGet();
+                            drain();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    running.decrementAndGet();
+                    drop(e.getMessage());
+                }
+            }
+        }
+
+        private void drop(String reason) {
+            // rate-limited: one warning per 1000 drops
+            if (dropped.getAndIncrement() % 1000 == 0) {
+                PluginLogger.warn("Dropped inbound " + type + " message: " + reason);
+            }
+        }
+
+        private void run(T message) {
+            try {
+                handler.handle(message);
+                handled.incrementAndGet();
+            } catch (Throwable t) {
+                failed.incrementAndGet();
+                PluginLogger.error("Inbound handler for " + type + " failed: " + t);
+            }
+        }
+
+        /** @return the message type */
+        public String getType() {
+            return type;
+        }
+
+        /** @return the thread the handler runs on */
+        public ThreadingMode getMode() {
+            return mode;
+        }
+
+        /** @return the concurrency limit, {@code 0} if unlimited */
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        /** @return messages waiting for a concurrency slot */
+        public int getBacklogSize() {
+            return backlogSize.get();
+        }
+
+        /** @return messages handled successfully */
+        public long getHandledCount() {
+            return handled.get();
+        }
+
+        /** @return messages whose handler threw */
+        public long getFailedCount() {
+            return failed.get();
+        }
+
+        /** @return messages dropped because the backlog or the executor was full */
+        public long getDroppedCount() {
+            return dropped.get();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package studio.itsmy.itsmybot.ws.inbound;
+
+/**
+ * Thread on which an {@link InboundHandler} runs.
+ */
+public enum ThreadingMode {
+
+    /**
+     * Inline on the WebSocket reader thread, in reception order.
+     * Only for cheap, non-blocking handlers: every other inbound frame waits behind it.
+     */
+    IO,
+
+    /** On a background worker, for handlers doing I/O or other blocking work. */
+    ASYNC,
+
+    /** On the Bukkit main thread, for handlers using the Bukkit API. */
+    MAIN
+}
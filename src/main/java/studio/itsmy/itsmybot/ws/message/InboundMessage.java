@@ -0,0 +1,41 @@
+package studio.itsmy.itsmybot.ws.message;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Base class of typed inbound messages.
+ * <p>
+ * Subclasses are plain fields bound by Gson, either streamed from the JSON text
+ * (see {@link MessageReader}) or converted from an already parsed tree.
+ * Unknown fields are skipped.
+ */
+public abstract class InboundMessage {
+
+    private String type;
+    private String id;
+    private Long seq;
+    private Long ack;
+
+    /** @return the message type */
+    public String getType() {
+        return type;
+    }
+
+    /** @return the correlation id, or {@code null} */
+    @Nullable
+    public String getId() {
+        return id;
+    }
+
+    /** @return the session sequence number, or {@code null} if the frame is not sequenced */
+    @Nullable
+    public Long getSeq() {
+        return seq;
+    }
+
+    /** @return the piggy-backed acknowledgement, or {@code null} */
+    @Nullable
+    public Long getAck() {
+        return ack;
+    }
+}
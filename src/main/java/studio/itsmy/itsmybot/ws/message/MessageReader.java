@@ -0,0 +1,86 @@
+package studio.itsmy.itsmybot.ws.message;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+/**
+ * Streaming reader of inbound messages.
+ * <p>
+ * {@link #peekType(String)} scans the top-level object only until the {@code type} field
+ * (usually the first one), skipping other values without materializing them. The message is
+ * then bound to its typed class with {@link #read(String, Class)}, which streams the text
+ * straight into the object fields: no intermediate {@link JsonObject} tree is built.
+ *
+ * <h2>Thread-safety</h2>
+ * Stateless apart from Gson's adapter cache, which is thread-safe.
+ */
+public class MessageReader {
+
+    private final Gson gson;
+
+    /**
+     * Creates a new reader.
+     *
+     * @param gson Gson instance providing (and caching) the type adapters
+     */
+    public MessageReader(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * Reads the top-level {@code type} field of a JSON object.
+     *
+     * @param json JSON text
+     * @return the type, or {@code null} if absent, not a string, or the text is malformed
+     */
+    public static String peekType(String json) {
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("type".equals(reader.nextName())) {
+                    return reader.peek() == JsonToken.STRING ? reader.nextString() : null;
+                }
+                reader.skipValue();
+            }
+        } catch (IOException | IllegalStateException e) {
+            return null;
+        }
+        return null;
+    }
+
+    /**
+     * Binds JSON text to a typed message.
+     *
+     * @param json JSON text
+     * @param type message class
+     * @param <T>  message type
+     * @return the message
+     * @throws JsonParseException if the text is malformed or does not match the class
+     */
+    public <T> T read(String json, Class<T> type) {
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            return gson.getAdapter(type).read(reader);
+        } catch (IOException | IllegalStateException e) {
+            throw new JsonParseException("Malformed " + type.getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Binds an already parsed tree to a typed message.
+     *
+     * @param json parsed frame
+     * @param type message class
+     * @param <T>  message type
+     * @return the message
+     * @throws JsonParseException if the tree does not match the class
+     */
+    public <T> T read(JsonObject json, Class<T> type) {
+        return gson.getAdapter(type).fromJsonTree(json);
+    }
+}
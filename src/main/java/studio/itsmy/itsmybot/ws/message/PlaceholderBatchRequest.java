@@ -0,0 +1,37 @@
+package studio.itsmy.itsmybot.ws.message;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code PLACEHOLDER_BATCH} request sent by the bot: every placeholder resolved for every player.
+ *
+ * <pre>{@code
+ * { "type": "PLACEHOLDER_BATCH", "id": "...",
+ *   "placeholders": ["%player_name%", "%vault_eco_balance%"],
+ *   "player_uuids": ["...", "..."] }
+ * }</pre>
+ * Without {@code player_uuids}, placeholders are resolved server-wide.
+ */
+public class PlaceholderBatchRequest extends InboundMessage {
+
+    /** Message type. */
+    public static final String TYPE = "PLACEHOLDER_BATCH";
+
+    private List<String> placeholders;
+
+    @SerializedName("player_uuids")
+    private List<String> playerUuids;
+
+    /** @return the raw placeholder strings (never {@code null}) */
+    public List<String> getPlaceholders() {
+        return placeholders != null ? placeholders : Collections.<String>emptyList();
+    }
+
+    /** @return the player UUID strings, empty for a server-wide resolution (never {@code null}) */
+    public List<String> getPlayerUuids() {
+        return playerUuids != null ? playerUuids : Collections.<String>emptyList();
+    }
+}
@@ -0,0 +1,33 @@
+package studio.itsmy.itsmybot.ws.message;
+
+import com.google.gson.annotations.SerializedName;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@code PLACEHOLDER} request sent by the bot.
+ *
+ * <pre>{@code
+ * { "type": "PLACEHOLDER", "id": "...", "placeholder": "%player_name%", "player_uuid": "..." }
+ * }</pre>
+ */
+public class PlaceholderRequest extends InboundMessage {
+
+    /** Message type. */
+    public static final String TYPE = "PLACEHOLDER";
+
+    private String placeholder;
+
+    @SerializedName("player_uuid")
+    private String playerUuid;
+
+    /** @return the raw placeholder string */
+    public String getPlaceholder() {
+        return placeholder;
+    }
+
+    /** @return the player UUID string, or {@code null} for a server-wide resolution */
+    @Nullable
+    public String getPlayerUuid() {
+        return playerUuid;
+    }
+}
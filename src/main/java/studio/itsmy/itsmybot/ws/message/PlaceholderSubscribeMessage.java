@@ -0,0 +1,49 @@
+package studio.itsmy.itsmybot.ws.message;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code PLACEHOLDER_SUBSCRIBE} and {@code PLACEHOLDER_UNSUBSCRIBE} messages sent by the bot.
+ *
+ * <pre>{@code
+ * { "type": "PLACEHOLDER_SUBSCRIBE", "subscription_id": "status-channel",
+ *   "placeholders": ["%server_online%"], "player_uuids": [] }
+ * { "type": "PLACEHOLDER_UNSUBSCRIBE", "subscription_id": "status-channel" }
+ * }</pre>
+ * Subscribing again with the same id replaces the subscription. Without {@code player_uuids},
+ * placeholders are resolved server-wide.
+ */
+public class PlaceholderSubscribeMessage extends InboundMessage {
+
+    /** Subscription message type. */
+    public static final String TYPE = "PLACEHOLDER_SUBSCRIBE";
+
+    /** Unsubscription message type. */
+    public static final String UNSUBSCRIBE_TYPE = "PLACEHOLDER_UNSUBSCRIBE";
+
+    @SerializedName("subscription_id")
+    private String subscriptionId;
+
+    private List<String> placeholders;
+
+    @SerializedName("player_uuids")
+    private List<String> playerUuids;
+
+    /** @return the subscription id chosen by the bot */
+    public String getSubscriptionId() {
+        return subscriptionId;
+    }
+
+    /** @return the raw placeholder strings (never {@code null}) */
+    public List<String> getPlaceholders() {
+        return placeholders != null ? placeholders : Collections.<String>emptyList();
+    }
+
+    /** @return the player UUID strings, empty for a server-wide resolution (never {@code null}) */
+    public List<String> getPlayerUuids() {
+        return playerUuids != null ? playerUuids : Collections.<String>emptyList();
+    }
+}
@@ -0,0 +1,40 @@
+package studio.itsmy.itsmybot.ws.message;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code SYNC_ROLE} push message sent by the bot when roles change on Discord.
+ *
+ * <pre>{@code
+ * { "type": "SYNC_ROLE", "player_uuid": "...", "add": ["vip"], "remove": ["member"] }
+ * }</pre>
+ */
+public class SyncRoleMessage extends InboundMessage {
+
+    /** Message type. */
+    public static final String TYPE = "SYNC_ROLE";
+
+    @SerializedName("player_uuid")
+    private String playerUuid;
+
+    private List<String> add;
+    private List<String> remove;
+
+    /** @return the player UUID string */
+    public String getPlayerUuid() {
+        return playerUuid;
+    }
+
+    /** @return the groups to add (never {@code null}) */
+    public List<String> getAdd() {
+        return add != null ? add : Collections.<String>emptyList();
+    }
+
+    /** @return the groups to remove (never {@code null}) */
+    public List<String> getRemove() {
+        return remove != null ? remove : Collections.<String>emptyList();
+    }
+}
@@ -0,0 +1,427 @@
+package studio.itsmy.itsmybot.ws.outbound;
+
+import studio.itsmy.itsmybot.util.PluginLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Append-only, segment-rotated disk spool for frames that cannot be sent (typically {@code LOG} events
+ * while the bot is unreachable).
+ * <p>
+ * Records are newline-delimited JSON frames written with a {@link FileChannel} into segment files
+ * ({@code <id>.spool}) of at most {@code segment_bytes}. The total size is bounded by {@code max_bytes}:
+ * when exceeded, the oldest segments are deleted first.
+ * <p>
+ * {@link #drain(int, Predicate)} reads records from a persisted cursor ({@code cursor} file), so records
+ * survive restarts and are delivered at least once.
+ * <p>
+ * {@link #append(String)} only queues the record: a dedicated writer thread ({@code ItsMyBot-Spool-Writer})
+ * writes it, so that callers on the server thread never wait for disk I/O (rotation forces segments to disk).
+ *
+ * <h2>Thread-safety</h2>
+ * {@link #append(String)} and {@link #hasBacklog()} take no lock; the other methods are {@code synchronized}.
+ */
+public class LogSpool {
+
+    private static final String SEGMENT_SUFFIX = ".spool";
+    private static final String CURSOR_FILE = "cursor";
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_PENDING_APPENDS = 10000;
+    private static final long WRITER_POLL_MS = 100;
+
+    private final File directory;
+    private final long segmentBytes;
+    private final long maxBytes;
+
+    /** Records waiting for the writer thread. */
+    private final BlockingQueue<String> appends = new LinkedBlockingQueue<>(MAX_PENDING_APPENDS);
+    private volatile Thread writer;
+    private volatile boolean fileBacklog;
+
+    /** Segment ids on disk, oldest first. The last one is the write segment. */
+    private final Deque<Long> segments = new ArrayDeque<>();
+
+    private FileChannel writeChannel;
+    private long writeSegmentSize;
+    private long totalBytes;
+
+    private long readSegmentId;
+    private long readOffset;
+    private boolean sinkRefused;
+
+    private long spooled;
+    private long drained;
+    private long discardedSegments;
+    private long rejected;
+    private final AtomicLong rejectedAppends = new AtomicLong();
+
+    /**
+     * Creates a new spool.
+     *
+     * @param directory    spool directory (created if missing)
+     * @param segmentBytes maximum size of a segment file
+     * @param maxBytes     maximum total size of the spool
+     */
+    public LogSpool(File directory, long segmentBytes, long maxBytes) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxBytes = Math.max(segmentBytes, maxBytes);
+    }
+
+    /**
+     * Scans existing segments, restores the read cursor and opens the write segment.
+     *
+     * @throws IOException if the directory or files cannot be accessed
+     */
+    public synchronized void open() throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Cannot create spool directory " + directory);
+        }
+
+        final List<Long> ids = new ArrayList<>();
+        final File[] files = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+        if (files != null) {
+            for (File file : files) {
+                try {
+                    ids.add(Long.parseLong(file.getName().substring(0, file.getName().length() - SEGMENT_SUFFIX.length())));
+                    totalBytes += file.length();
+                } catch (NumberFormatException ignored) {
+                    // not a segment
+                }
+            }
+        }
+        Collections.sort(ids);
+        segments.addAll(ids);
+
+        readCursor();
+        if (segments.isEmpty() || readSegmentId < segments.peekFirst() || readSegmentId > segments.peekLast()) {
+            readSegmentId = segments.isEmpty() ? 1 : segments.peekFirst();
+            readOffset = 0;
+        }
+        while (segments.size() > 1 && segments.peekFirst() < readSegmentId) {
+            deleteOldestSegment(); // already drained before the last shutdown
+        }
+
+        openWriteSegment(segments.isEmpty() ? readSegmentId : segments.peekLast());
+        fileBacklog = fileHasBacklog();
+
+        final Thread thread = new Thread(this::writeLoop, "ItsMyBot-Spool-Writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    /**
+     * Writes the queued records, then closes the write segment, forcing its content to disk, and persists
+     * the read cursor.
+     */
+    public void close() {
+        final Thread thread = writer;
+        writer = null;
+        if (thread != null) {
+            try {
+                thread.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        closeFiles();
+    }
+
+    private synchronized void closeFiles() {
+        String payload;
+        while ((payload = appends.poll()) != null) {
+            write(payload);
+        }
+        try {
+            if (writeChannel != null) {
+                writeChannel.force(false);
+                writeChannel.close();
+                writeChannel = null;
+            }
+            writeCursor();
+        } catch (IOException e) {
+            PluginLogger.error("Failed to close log spool: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Queues a frame to be appended to the spool by the writer thread.
+     *
+     * @param payload serialized frame (must not contain line breaks)
+     * @return {@code false} if the spool is closed or too many records are waiting to be written
+     */
+    public boolean append(String payload) {
+        if (writer != null && appends.offer(payload)) return true;
+        rejectedAppends.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Writer loop: writes the queued records until the spool is closed; the remaining ones are written
+     * by {@link #close()}. Not interrupted, as an interrupt would close the file channel.
+     */
+    private void writeLoop() {
+        while (writer != null) {
+            final String payload;
+            try {
+                payload = appends.poll(WRITER_POLL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (payload == null) continue;
+            synchronized (this) {
+                write(payload);
+            }
+        }
+    }
+
+    /**
+     * Writes a frame to the write segment, rotating and enforcing the size bound.
+     */
+    private void write(String payload) {
+        if (writeChannel == null) {
+            rejected++;
+            return;
+        }
+
+        final byte[] bytes = (payload + '\n').getBytes(StandardCharsets.UTF_8);
+        try {
+            if (writeSegmentSize > 0 && writeSegmentSize + bytes.length > segmentBytes) {
+                rotate();
+            }
+            while (totalBytes + bytes.length > maxBytes && segments.size() > 1) {
+                deleteOldestSegment();
+            }
+            if (totalBytes + bytes.length > maxBytes) {
+                rejected++;
+                return;
+            }
+
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                writeChannel.write(buffer);
+            }
+            writeSegmentSize += bytes.length;
+            totalBytes += bytes.length;
+            spooled++;
+            fileBacklog = true;
+        } catch (IOException e) {
+            PluginLogger.error("Failed to write to log spool: " + e.getMessage());
+            rejected++;
+        }
+    }
+
+    /**
+     * Checks whether records are waiting to be written or drained, without locking.
+     *
+     * @return {@code true} if the spool has unread records
+     */
+    public boolean hasBacklog() {
+        return fileBacklog || !appends.isEmpty();
+    }
+
+    private boolean fileHasBacklog() {
+        if (segments.isEmpty()) return false;
+        return readSegmentId < segments.peekLast() || readOffset < writeSegmentSize;
+    }
+
+    /**
+     * Hands up to {@code max} records, oldest first, to the sink.
+     * <p>
+     * Stops early when the sink refuses a record (e.g. outbound queue full); that record is retried next time.
+     * Fully read segments are deleted, and the cursor is persisted after each call.
+     *
+     * @param max  maximum number of records to drain
+     * @param sink receives each record, returns {@code false} to stop
+     * @return number of records accepted by the sink
+     */
+    public synchronized int drain(int max, Predicate<String> sink) {
+        int count = 0;
+        sinkRefused = false;
+        try {
+            while (count < max && fileHasBacklog()) {
+                final Path path = segmentPath(readSegmentId);
+                final boolean isWriteSegment = readSegmentId == segments.peekLast();
+                final long end = isWriteSegment ? writeSegmentSize : Files.size(path);
+
+                if (readOffset >= end) {
+                    if (isWriteSegment) break;
+                    deleteOldestSegment();
+                    continue;
+                }
+
+                final long offsetBefore = readOffset;
+                count += drainSegment(path, end, max - count, sink);
+                if (sinkRefused || readOffset == offsetBefore) break;
+            }
+
+            if (!fileHasBacklog() && writeSegmentSize > 0) {
+                // Everything was delivered: start over with an empty segment.
+                rotate();
+                deleteOldestSegment();
+            }
+            writeCursor();
+        } catch (IOException e) {
+            PluginLogger.error("Failed to read log spool: " + e.getMessage());
+        }
+        fileBacklog = fileHasBacklog();
+        drained += count;
+        return count;
+    }
+
+    /**
+     * Reads records of one segment from the cursor, advancing it past every accepted record.
+     *
+     * @return number of accepted records
+     */
+    private int drainSegment(Path path, long end, int max, Predicate<String> sink) throws IOException {
+        int count = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(READ_BUFFER_SIZE, Math.max(1, end - readOffset)));
+            channel.read(buffer, readOffset);
+
+            final byte[] data = buffer.array();
+            final int limit = buffer.position();
+            int start = 0;
+            for (int i = 0; i < limit && count < max; i++) {
+                if (data[i] != '\n') continue;
+
+                final String record = new String(data, start, i - start, StandardCharsets.UTF_8);
+                if (!sink.test(record)) {
+                    sinkRefused = true;
+                    return count;
+                }
+                readOffset += i - start + 1;
+                start = i + 1;
+                count++;
+            }
+
+            if (start == 0 && limit == data.length && count == 0) {
+                // Single record larger than the read buffer: skip it rather than block the spool.
+                PluginLogger.warn("Skipping oversized record in log spool.");
+                readOffset += limit;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Closes the write segment and opens the next one.
+     */
+    private void rotate() throws IOException {
+        final long next = segments.peekLast() + 1;
+        writeChannel.force(false);
+        writeChannel.close();
+        openWriteSegment(next);
+    }
+
+    private void openWriteSegment(long id) throws IOException {
+        writeChannel = FileChannel.open(segmentPath(id),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        writeSegmentSize = writeChannel.size();
+        if (segments.isEmpty() || segments.peekLast() != id) {
+            segments.addLast(id);
+        }
+    }
+
+    /**
+     * Deletes the oldest (non-write) segment, moving the read cursor past it if needed.
+     */
+    private void deleteOldestSegment() throws IOException {
+        if (segments.size() <= 1) return;
+
+        final long id = segments.pollFirst();
+        final Path path = segmentPath(id);
+        final long size = Files.exists(path) ? Files.size(path) : 0;
+        Files.deleteIfExists(path);
+        totalBytes -= size;
+
+        if (readSegmentId <= id) {
+            if (readOffset < size) {
+                discardedSegments++;
+            }
+            readSegmentId = segments.peekFirst();
+            readOffset = 0;
+        }
+    }
+
+    private Path segmentPath(long id) {
+        return new File(directory, String.format("%016d%s", id, SEGMENT_SUFFIX)).toPath();
+    }
+
+    private void readCursor() {
+        final Path path = new File(directory, CURSOR_FILE).toPath();
+        if (!Files.exists(path)) return;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(16);
+            channel.read(buffer, 0);
+            if (buffer.position() == 16) {
+                buffer.flip();
+                readSegmentId = buffer.getLong();
+                readOffset = buffer.getLong();
+            }
+        } catch (IOException e) {
+            PluginLogger.warn("Failed to read log spool cursor, starting from the oldest segment: " + e.getMessage());
+        }
+    }
+
+    private void writeCursor() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(readSegmentId).putLong(readOffset).flip();
+        try (FileChannel channel = FileChannel.open(new File(directory, CURSOR_FILE).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /** @return total bytes currently used on disk */
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /** @return total records written to the spool */
+    public synchronized long getSpooledCount() {
+        return spooled;
+    }
+
+    /** @return total records drained from the spool */
+    public synchronized long getDrainedCount() {
+        return drained;
+    }
+
+    /** @return number of segments deleted before being fully drained (disk bound reached) */
+    public synchronized long getDiscardedSegmentCount() {
+        return discardedSegments;
+    }
+
+    /** @return total records rejected (disk bound reached, I/O error or too many records waiting) */
+    public synchronized long getRejectedCount() {
+        return rejected + rejectedAppends.get();
+    }
+
+    /** @return number of records waiting for the writer thread */
+    public int getPendingAppendCount() {
+        return appends.size();
+    }
+}
@@ -0,0 +1,372 @@
+package studio.itsmy.itsmybot.ws.outbound;
+
+import studio.itsmy.itsmybot.configuration.advanced.OutboundConfig;
+import studio.itsmy.itsmybot.util.PluginLogger;
+import okhttp3.WebSocket;
+import org.bukkit.Bukkit;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded outbound pipeline between the plugin and the WebSocket.
+ * <p>
+ * Producers (any thread) enqueue serialized frames; a single writer thread drains them
+ * into OkHttp while watching {@link WebSocket#queueSize()}.
+ *
+ * <h2>Lanes</h2>
+ * <ul>
+ *   <li><b>priority</b>: requests and responses (LINK, CLAIM, PLACEHOLDER_RESULT, ...), always drained first.</li>
+ *   <li><b>bulk</b>: high-volume types listed in {@code outbound.bulk_types} (default: {@code LOG}).</li>
+ * </ul>
+ * Each lane is a lock-free {@link ConcurrentLinkedQueue} bounded by a CAS-maintained counter.
+ *
+ * <h2>Backpressure</h2>
+ * When OkHttp's own queue reaches {@code outbound.high_watermark} bytes, the writer pauses until it
+ * falls back under {@code outbound.low_watermark}. Frames then accumulate in the lanes, and once a lane
+ * is full the per-type {@link OverflowPolicy} decides what happens to new frames.
+ *
+ * <h2>Framing</h2>
+ * An optional frame stamper (see {@link #setFrameStamper(UnaryOperator)}) rewrites each frame right before
+ * it is written, in send order. A stamped frame is owned by the stamper (e.g. a replay buffer): it leaves
+ * the lane even if the socket refuses it. A frame the stamper leaves alone ({@code null} result) stays in
+ * its lane until the socket accepts it. The frame is finally handed to the frame writer (see
+ * {@link #setFrameWriter(BiPredicate)}), which defaults to {@link WebSocket#send(String)}.
+ *
+ * <h2>Thread-safety</h2>
+ * Any number of producers, exactly one consumer (the writer thread).
+ */
+public class OutboundQueue {
+
+    /** Idle park time of the writer when both lanes are empty. */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /** Park time while waiting for the OkHttp queue to drain or for the socket to be ready. */
+    private static final long BACKOFF_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final Supplier<WebSocket> socketSupplier;
+    private final Lane priorityLane = new Lane();
+    private final Lane bulkLane = new Lane();
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong pauses = new AtomicLong();
+
+    private volatile BiPredicate<String, String> spillHandler;
+    private volatile UnaryOperator<String> frameStamper;
+    private volatile BiPredicate<WebSocket, String> frameWriter = WebSocket::send;
+    private volatile Thread writer;
+    private volatile boolean running;
+
+    /**
+     * Creates a new outbound queue.
+     *
+     * @param socketSupplier returns the socket to write to, or {@code null} while it is not ready
+     */
+    public OutboundQueue(Supplier<WebSocket> socketSupplier) {
+        this.socketSupplier = socketSupplier;
+    }
+
+    /**
+     * Starts the writer thread (no-op if already running).
+     */
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        writer = new Thread(this::writeLoop, "ItsMyBot-WS-Writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stops the writer thread. Queued frames are kept until {@link #clear()} is called.
+     */
+    public synchronized void stop() {
+        running = false;
+        final Thread thread = writer;
+        writer = null;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Registers the handler receiving frames rejected under {@link OverflowPolicy#SPILL}.
+     *
+     * @param spillHandler receives {@code (type, payload)} and returns {@code false} if it could not keep
+     *                     the frame (which is then dropped), or {@code null} to always drop
+     */
+    public void setSpillHandler(BiPredicate<String, String> spillHandler) {
+        this.spillHandler = spillHandler;
+    }
+
+    /**
+     * Registers the operator applied to every frame right before it is written.
+     *
+     * @param frameStamper frame rewriting operator, returning {@code null} for a frame it does not stamp
+     *                     (and does not keep), or {@code null} to send frames unchanged
+     */
+    public void setFrameStamper(UnaryOperator<String> frameStamper) {
+        this.frameStamper = frameStamper;
+    }
+
+    /**
+     * Registers the function writing a frame to the socket (e.g. to compress it).
+     *
+     * @param frameWriter receives {@code (socket, frame)} and returns the result of the socket send
+     */
+    public void setFrameWriter(BiPredicate<WebSocket, String> frameWriter) {
+        this.frameWriter = frameWriter;
+    }
+
+    /**
+     * Enqueues a serialized frame.
+     *
+     * @param type    message type used to select the lane and overflow policy (nullable)
+     * @param payload serialized frame
+     * @return {@code true} if the frame was queued (or spilled), {@code false} if dropped
+     */
+    public boolean offer(String type, String payload) {
+        final Lane lane = OutboundConfig.isBulkType(type) ? bulkLane : priorityLane;
+        final int capacity = OutboundConfig.getLaneCapacity();
+
+        if (lane.offer(payload, capacity)) {
+            LockSupport.unpark(writer);
+            return true;
+        }
+
+        switch (OutboundConfig.getPolicy(type)) {
+            case BLOCK:
+                if (!Bukkit.isPrimaryThread() && offerBlocking(lane, payload, capacity)) {
+                    return true;
+                }
+                break;
+            case SPILL:
+                final BiPredicate<String, String> handler = spillHandler;
+                if (handler != null && handler.test(type, payload)) {
+                    spilled.incrementAndGet();
+                    return true;
+                }
+                break;
+            default:
+                break;
+        }
+
+        if (dropped.incrementAndGet() % 1000 == 1) {
+            PluginLogger.warn("Outbound queue is full, dropping " + (type == null ? "message" : type) + " frames.");
+        }
+        return false;
+    }
+
+    /**
+     * Enqueues a serialized frame only if its lane has free space, without applying any overflow policy.
+     *
+     * @param type    message type used to select the lane (nullable)
+     * @param payload serialized frame
+     * @return {@code true} if the frame was queued
+     */
+    public boolean tryOffer(String type, String payload) {
+        final Lane lane = OutboundConfig.isBulkType(type) ? bulkLane : priorityLane;
+        if (lane.offer(payload, OutboundConfig.getLaneCapacity())) {
+            LockSupport.unpark(writer);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Waits for free space in a lane, up to the configured block timeout.
+     */
+    private boolean offerBlocking(Lane lane, String payload, int capacity) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(OutboundConfig.getBlockTimeoutMs());
+        while (System.nanoTime() < deadline) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(BACKOFF_PARK_NANOS);
+            if (lane.offer(payload, capacity)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sends every queued frame directly to the socket, bypassing watermarks.
+     * <p>
+     * Used right before a deliberate disconnect so that last frames (e.g. server stop log) are not lost.
+     *
+     * @param webSocket target socket
+     */
+    public void flush(WebSocket webSocket) {
+        drainTo(webSocket, priorityLane);
+        drainTo(webSocket, bulkLane);
+    }
+
+    private void drainTo(WebSocket webSocket, Lane lane) {
+        final UnaryOperator<String> stamper = frameStamper;
+        final BiPredicate<WebSocket, String> writer = frameWriter;
+        String payload;
+        while ((payload = lane.poll()) != null) {
+            final String stamped = stamper != null ? stamper.apply(payload) : null;
+            if (writer.test(webSocket, stamped != null ? stamped : payload)) {
+                sent.incrementAndGet();
+            } else if (stamped == null) {
+                dropped.incrementAndGet(); // a stamped frame is kept for replay
+            }
+        }
+    }
+
+    /**
+     * Discards every queued frame.
+     */
+    public void clear() {
+        while (priorityLane.poll() != null) {
+            dropped.incrementAndGet();
+        }
+        while (bulkLane.poll() != null) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Writer loop: runs {@link #writeNext(boolean)} until stopped, surviving any failure of an iteration.
+     */
+    private void writeLoop() {
+        boolean paused = false;
+
+        while (running) {
+            try {
+                paused = writeNext(paused);
+            } catch (Throwable t) {
+                PluginLogger.error("Outbound writer error: " + t);
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Writes the next frame: priority lane first, bulk lane second, pausing above the high watermark.
+     *
+     * @param paused whether the writer is paused on the high watermark
+     * @return whether the writer is paused after this iteration
+     */
+    private boolean writeNext(boolean paused) {
+        final WebSocket webSocket = socketSupplier.get();
+        if (webSocket == null) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+            return paused;
+        }
+
+        final long okHttpQueued = webSocket.queueSize();
+        if (paused) {
+            if (okHttpQueued > OutboundConfig.getLowWatermark()) {
+                LockSupport.parkNanos(BACKOFF_PARK_NANOS);
+                return true;
+            }
+        } else if (okHttpQueued >= OutboundConfig.getHighWatermark()) {
+            pauses.incrementAndGet();
+            return true;
+        }
+
+        Lane lane = priorityLane;
+        String payload = lane.peek();
+        if (payload == null) {
+            lane = bulkLane;
+            payload = lane.peek();
+        }
+        if (payload == null) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+            return false;
+        }
+
+        final UnaryOperator<String> stamper = frameStamper;
+        final BiPredicate<WebSocket, String> writer = frameWriter;
+        try {
+            final String stamped = stamper != null ? stamper.apply(payload) : null;
+            if (stamped != null) {
+                // The stamped frame is kept by the stamper for replay, whatever the send outcome.
+                lane.poll();
+                if (writer.test(webSocket, stamped)) {
+                    sent.incrementAndGet();
+                }
+            } else if (writer.test(webSocket, payload)) {
+                lane.poll();
+                sent.incrementAndGet();
+            } else {
+                // Socket is closing; keep the frame for the next connection.
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        } catch (RuntimeException e) {
+            // The frame cannot be written (compressor); drop it rather than retry it forever.
+            if (lane.peek() == payload) {
+                lane.poll();
+            }
+            dropped.incrementAndGet();
+            PluginLogger.error("Dropping an outbound frame that could not be written: " + e);
+        }
+        return false;
+    }
+
+    /** @return number of frames waiting in both lanes */
+    public int getQueuedCount() {
+        return priorityLane.size.get() + bulkLane.size.get();
+    }
+
+    /** @return total frames handed to OkHttp */
+    public long getSentCount() {
+        return sent.get();
+    }
+
+    /** @return total frames dropped because a lane was full */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /** @return total frames handed to the spill handler */
+    public long getSpilledCount() {
+        return spilled.get();
+    }
+
+    /** @return number of times the writer paused on the high watermark */
+    public long getPauseCount() {
+        return pauses.get();
+    }
+
+    /**
+     * Lock-free bounded queue: a {@link ConcurrentLinkedQueue} plus a CAS-maintained size.
+     */
+    private static final class Lane {
+
+        private final Queue<String> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        boolean offer(String payload, int capacity) {
+            int current;
+            do {
+                current = size.get();
+                if (current >= capacity) return false;
+            } while (!size.compareAndSet(current, current + 1));
+            queue.offer(payload);
+            return true;
+        }
+
+        String peek() {
+            return queue.peek();
+        }
+
+        String poll() {
+            final String payload = queue.poll();
+            if (payload != null) {
+                size.decrementAndGet();
+            }
+            return payload;
+        }
+    }
+}
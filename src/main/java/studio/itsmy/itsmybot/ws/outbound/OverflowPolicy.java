@@ -0,0 +1,37 @@
+package studio.itsmy.itsmybot.ws.outbound;
+
+/**
+ * Behavior applied by {@link OutboundQueue} when a lane is full.
+ * <p>
+ * The policy is resolved per message {@code type} (see {@code outbound.policies} in {@code config.yml}).
+ */
+public enum OverflowPolicy {
+
+    /** The new message is discarded and counted as dropped. */
+    DROP,
+
+    /**
+     * The caller waits (up to {@code outbound.block_timeout_ms}) for free space, then drops.
+     * Never blocks the server main thread: falls back to {@link #DROP} there.
+     */
+    BLOCK,
+
+    /** The message is handed to the registered spill handler, or dropped if none is set. */
+    SPILL;
+
+    /**
+     * Parses a policy name, falling back to the given default on unknown values.
+     *
+     * @param name         policy name (case-insensitive, nullable)
+     * @param defaultValue value returned if {@code name} is missing or invalid
+     * @return the matching policy
+     */
+    public static OverflowPolicy fromString(String name, OverflowPolicy defaultValue) {
+        if (name == null) return defaultValue;
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return defaultValue;
+        }
+    }
+}
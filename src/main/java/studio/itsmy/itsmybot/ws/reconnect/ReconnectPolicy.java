@@ -0,0 +1,101 @@
+package studio.itsmy.itsmybot.ws.reconnect;
+
+import studio.itsmy.itsmybot.configuration.advanced.ReconnectConfig;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reconnection policy: fast first retry, exponential backoff with decorrelated jitter, and a circuit breaker.
+ * <p>
+ * Delays:
+ * <ol>
+ *   <li>First retry after a healthy session: random in {@code [0, first_retry_jitter_ms]}.</li>
+ *   <li>Next retries: {@code min(max_delay, random(base_delay, previous * 3))} (decorrelated jitter),
+ *       so that many servers reconnecting to the same bot drift apart instead of retrying in lockstep.</li>
+ * </ol>
+ *
+ * <h2>Circuit states</h2>
+ * <ul>
+ *   <li>{@link CircuitState#CLOSED}: healthy, or still retrying below {@code failure_threshold}.</li>
+ *   <li>{@link CircuitState#OPEN}: too many consecutive failures; features should fail fast.</li>
+ *   <li>{@link CircuitState#HALF_OPEN}: a trial connection is in progress while the circuit was open.</li>
+ * </ul>
+ * A successful authentication ({@link #onSuccess()}) closes the circuit and resets the backoff.
+ *
+ * <h2>Thread-safety</h2>
+ * All methods are {@code synchronized}; the state is also readable without locking.
+ */
+public class ReconnectPolicy {
+
+    /** Circuit breaker state. */
+    public enum CircuitState { CLOSED, OPEN, HALF_OPEN }
+
+    private volatile CircuitState state = CircuitState.CLOSED;
+    private int consecutiveFailures;
+    private long previousDelayMs;
+
+    /**
+     * Records a failed or lost connection and computes the delay before the next attempt.
+     *
+     * @return the delay in milliseconds
+     */
+    public synchronized long onFailure() {
+        consecutiveFailures++;
+
+        final long delay;
+        if (consecutiveFailures == 1) {
+            delay = randomBetween(0, ReconnectConfig.getFirstRetryJitterMs());
+        } else {
+            final long base = ReconnectConfig.getBaseDelayMs();
+            final long upper = Math.max(base, previousDelayMs * 3);
+            delay = Math.min(ReconnectConfig.getMaxDelayMs(), randomBetween(base, upper));
+        }
+        previousDelayMs = Math.max(delay, ReconnectConfig.getBaseDelayMs());
+
+        if (consecutiveFailures >= ReconnectConfig.getFailureThreshold()) {
+            state = CircuitState.OPEN;
+        }
+        return delay;
+    }
+
+    /**
+     * Marks the start of a connection attempt; moves an open circuit to half-open.
+     */
+    public synchronized void onAttempt() {
+        if (state == CircuitState.OPEN) {
+            state = CircuitState.HALF_OPEN;
+        }
+    }
+
+    /**
+     * Records a successful (authenticated) connection: closes the circuit and resets the backoff.
+     */
+    public synchronized void onSuccess() {
+        state = CircuitState.CLOSED;
+        consecutiveFailures = 0;
+        previousDelayMs = 0;
+    }
+
+    /**
+     * Gets the current circuit state.
+     *
+     * @return the circuit state
+     */
+    public CircuitState getState() {
+        return state;
+    }
+
+    /**
+     * Gets the number of consecutive failures since the last success.
+     *
+     * @return the failure count
+     */
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    private static long randomBetween(long min, long max) {
+        if (max <= min) return min;
+        return ThreadLocalRandom.current().nextLong(min, max + 1);
+    }
+}
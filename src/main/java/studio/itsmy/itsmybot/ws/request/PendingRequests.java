@@ -0,0 +1,134 @@
+package studio.itsmy.itsmybot.ws.request;
+
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Correlation table for requests awaiting a response, swept by a {@link TimingWheel}.
+ * <p>
+ * Each request is registered with its own timeout; a matching response cancels the timeout
+ * in O(1), so no dead timer tasks are left behind once responses arrive.
+ *
+ * <h2>Thread-safety</h2>
+ * Entries live in a {@link ConcurrentHashMap}; whichever of {@link #complete(String, JsonObject)}
+ * and the timeout removes the entry first wins.
+ */
+public class PendingRequests {
+
+    /** Tick duration of the wheel, in milliseconds. */
+    public static final long TICK_MS = 100;
+
+    private final Map<String, Entry> table = new ConcurrentHashMap<>();
+    private final TimingWheel wheel = new TimingWheel(TICK_MS, TimeUnit.MILLISECONDS, 512);
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+
+    /**
+     * Registers a request and arms its timeout.
+     *
+     * @param id        correlation id (must be unique)
+     * @param timeoutMs timeout in milliseconds
+     * @return a future completed by {@link #complete(String, JsonObject)} or exceptionally on timeout
+     */
+    public CompletableFuture<JsonObject> register(String id, long timeoutMs) {
+        final CompletableFuture<JsonObject> future = new CompletableFuture<>();
+        final Entry entry = new Entry(future);
+        table.put(id, entry);
+
+        entry.timeout = wheel.schedule(() -> {
+            if (table.remove(id, entry)) {
+                timedOut.incrementAndGet();
+                future.completeExceptionally(new TimeoutException("Timeout while waiting for response: " + id));
+            }
+        }, timeoutMs);
+
+        return future;
+    }
+
+    /**
+     * Completes the request matching the given id, if any.
+     *
+     * @param id       correlation id
+     * @param response response payload
+     * @return {@code true} if a pending request was completed
+     */
+    public boolean complete(String id, JsonObject response) {
+        final Entry entry = table.remove(id);
+        if (entry == null) return false;
+
+        entry.timeout.cancel();
+        completed.incrementAndGet();
+        entry.future.complete(response);
+        return true;
+    }
+
+    /**
+     * Fails a request immediately (e.g. it could not be sent).
+     *
+     * @param id    correlation id
+     * @param cause failure cause
+     */
+    public void fail(String id, Throwable cause) {
+        final Entry entry = table.remove(id);
+        if (entry == null) return;
+
+        entry.timeout.cancel();
+        entry.future.completeExceptionally(cause);
+    }
+
+    /**
+     * Fails every pending request (e.g. on shutdown).
+     *
+     * @param cause failure cause
+     */
+    public void failAll(Throwable cause) {
+        final List<String> ids = new ArrayList<>(table.keySet());
+        for (String id : ids) {
+            fail(id, cause);
+        }
+    }
+
+    /**
+     * Advances the timing wheel; must be called at least every {@link #TICK_MS} milliseconds.
+     */
+    public void tick() {
+        wheel.advance();
+    }
+
+    /** @return number of requests awaiting a response */
+    public int getInFlightCount() {
+        return table.size();
+    }
+
+    /** @return total requests completed by a response */
+    public long getCompletedCount() {
+        return completed.get();
+    }
+
+    /** @return total requests that timed out */
+    public long getTimedOutCount() {
+        return timedOut.get();
+    }
+
+    /**
+     * Table entry: the future and its timeout handle.
+     */
+    private static final class Entry {
+
+        private final CompletableFuture<JsonObject> future;
+        private volatile TimingWheel.Timeout timeout;
+
+        private Entry(CompletableFuture<JsonObject> future) {
+            this.future = future;
+        }
+    }
+}
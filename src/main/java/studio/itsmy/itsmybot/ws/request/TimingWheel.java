@@ -0,0 +1,151 @@
+package studio.itsmy.itsmybot.ws.request;
+
+import studio.itsmy.itsmybot.util.PluginLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashed timing wheel for large numbers of short-lived timeouts.
+ * <p>
+ * Timeouts are hashed into {@code slots} buckets by their deadline tick. Each bucket is an intrusive
+ * doubly-linked list, so both {@link #schedule(Runnable, long)} and {@link Timeout#cancel()} are O(1).
+ * Deadlines further away than one revolution simply stay in their bucket until their tick comes.
+ * <p>
+ * The wheel has no thread of its own: call {@link #advance()} periodically (at least once per tick).
+ * Expired tasks run on the thread calling {@link #advance()}, outside of the wheel lock.
+ *
+ * <h2>Thread-safety</h2>
+ * All structural operations are guarded by the wheel monitor.
+ */
+public final class TimingWheel {
+
+    private final long tickNanos;
+    private final long startNanos;
+    private final Timeout[] heads;
+    private final int mask;
+
+    /** Next tick to be processed by {@link #advance()}. */
+    private long currentTick;
+
+    /**
+     * Creates a new timing wheel.
+     *
+     * @param tickDuration duration of a tick
+     * @param unit         unit of {@code tickDuration}
+     * @param slots        number of buckets (rounded up to a power of two)
+     */
+    public TimingWheel(long tickDuration, TimeUnit unit, int slots) {
+        int size = 1;
+        while (size < slots) {
+            size <<= 1;
+        }
+        this.tickNanos = Math.max(1, unit.toNanos(tickDuration));
+        this.startNanos = System.nanoTime();
+        this.heads = new Timeout[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Schedules a task to run once the delay has elapsed (with tick granularity).
+     *
+     * @param task    task to run on expiry
+     * @param delayMs delay in milliseconds
+     * @return a handle that can cancel the timeout
+     */
+    public synchronized Timeout schedule(Runnable task, long delayMs) {
+        final long elapsed = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(delayMs);
+        final long deadline = Math.max(currentTick, (elapsed + tickNanos - 1) / tickNanos);
+
+        final Timeout timeout = new Timeout(this, task, deadline);
+        link(timeout);
+        return timeout;
+    }
+
+    /**
+     * Processes every tick up to the current time and runs the expired tasks.
+     */
+    public void advance() {
+        final List<Runnable> expired = new ArrayList<>();
+
+        synchronized (this) {
+            final long targetTick = (System.nanoTime() - startNanos) / tickNanos;
+            while (currentTick <= targetTick) {
+                Timeout timeout = heads[(int) (currentTick & mask)];
+                while (timeout != null) {
+                    final Timeout next = timeout.next;
+                    if (timeout.deadline <= currentTick) {
+                        unlink(timeout);
+                        expired.add(timeout.task);
+                    }
+                    timeout = next;
+                }
+                currentTick++;
+            }
+        }
+
+        for (Runnable task : expired) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                PluginLogger.error("Timeout task failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void link(Timeout timeout) {
+        final int slot = (int) (timeout.deadline & mask);
+        final Timeout head = heads[slot];
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        heads[slot] = timeout;
+        timeout.linked = true;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (!timeout.linked) return;
+        final int slot = (int) (timeout.deadline & mask);
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            heads[slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.linked = false;
+    }
+
+    /**
+     * Handle of a scheduled timeout.
+     */
+    public static final class Timeout {
+
+        private final TimingWheel wheel;
+        private final Runnable task;
+        private final long deadline;
+        private Timeout prev;
+        private Timeout next;
+        private boolean linked;
+
+        private Timeout(TimingWheel wheel, Runnable task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout in O(1). No-op if it already expired or was cancelled.
+         */
+        public void cancel() {
+            synchronized (wheel) {
+                wheel.unlink(this);
+            }
+        }
+    }
+}
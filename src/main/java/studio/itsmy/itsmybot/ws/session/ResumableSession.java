@@ -0,0 +1,195 @@
+package studio.itsmy.itsmybot.ws.session;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Client side of the optional session-resume protocol.
+ * <p>
+ * While a session is active, every outbound frame is stamped with a monotonically increasing {@code seq}
+ * and piggybacks the last inbound {@code seq} seen as {@code ack}. Stamped frames are kept in a bounded
+ * replay buffer until the server acknowledges them. After a reconnect the client sends {@code RESUME}
+ * instead of {@code AUTH}, and replays the frames the server did not receive.
+ *
+ * <h2>Protocol</h2>
+ * <pre>{@code
+ * // AUTH_SUCCESS opens a session
+ * { "type": "AUTH_SUCCESS", "session_id": "..." }
+ *
+ * // Any frame, both directions
+ * { "seq": 42, "ack": 17, "type": "...", ... }
+ *
+ * // Reconnect
+ * { "type": "RESUME", "session_id": "...", "last_seq": 17, "token": "...", "server_id": "..." }
+ * { "type": "RESUME_SUCCESS", "ack": 40 }   // client replays 41, 42
+ * { "type": "RESUME_FAIL" }                 // client falls back to AUTH
+ * }</pre>
+ *
+ * <h2>Thread-safety</h2>
+ * All methods are {@code synchronized}: stamping happens on the writer thread, acks on the reader thread.
+ */
+public class ResumableSession {
+
+    private final Deque<Frame> replayBuffer = new ArrayDeque<>();
+
+    private String sessionId;
+    private long outboundSeq;
+    private long lastInboundSeq;
+    private long lastAckSent;
+    private long replayDropped;
+
+    /**
+     * Starts a new session, discarding the previous one.
+     *
+     * @param sessionId session id assigned by the server
+     */
+    public synchronized void start(String sessionId) {
+        this.sessionId = sessionId;
+        this.outboundSeq = 0;
+        this.lastInboundSeq = 0;
+        this.lastAckSent = 0;
+        this.replayBuffer.clear();
+    }
+
+    /**
+     * Ends the current session (resume is no longer possible).
+     */
+    public synchronized void reset() {
+        this.sessionId = null;
+        this.replayBuffer.clear();
+    }
+
+    /**
+     * Gets the current session id.
+     *
+     * @return the session id, or {@code null} if no session is active
+     */
+    public synchronized String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Stamps an outbound frame with {@code seq}/{@code ack} and stores it in the replay buffer.
+     * <p>
+     * Frames that are not JSON objects, or sent while no session is active, are not stamped nor kept.
+     *
+     * @param payload    serialized JSON object
+     * @param bufferSize maximum number of unacknowledged frames kept for replay
+     * @return the stamped frame, or {@code null} if the frame was not stamped (the caller still owns it)
+     */
+    public synchronized String stamp(String payload, int bufferSize) {
+        if (sessionId == null || payload.isEmpty() || payload.charAt(0) != '{') {
+            return null;
+        }
+
+        final long seq = ++outboundSeq;
+        final StringBuilder builder = new StringBuilder(payload.length() + 32)
+                .append("{\"seq\":").append(seq)
+                .append(",\"ack\":").append(lastInboundSeq);
+        if (payload.length() > 2) {
+            builder.append(',');
+        }
+        builder.append(payload, 1, payload.length());
+        lastAckSent = lastInboundSeq;
+
+        final String framed = builder.toString();
+        replayBuffer.addLast(new Frame(seq, framed));
+        while (replayBuffer.size() > bufferSize) {
+            replayBuffer.pollFirst();
+            replayDropped++;
+        }
+        return framed;
+    }
+
+    /**
+     * Records an inbound sequence number.
+     *
+     * @param seq sequence number of the received frame
+     * @return {@code false} if the frame is a duplicate (already seen) and must be ignored
+     */
+    public synchronized boolean onInbound(long seq) {
+        if (seq <= lastInboundSeq) return false;
+        lastInboundSeq = seq;
+        return true;
+    }
+
+    /**
+     * Drops every buffered frame acknowledged by the server.
+     *
+     * @param ack highest outbound sequence number received by the server
+     */
+    public synchronized void acknowledge(long ack) {
+        while (!replayBuffer.isEmpty() && replayBuffer.peekFirst().seq <= ack) {
+            replayBuffer.pollFirst();
+        }
+    }
+
+    /**
+     * Returns the frames the server has not received, in order, after a successful resume.
+     *
+     * @param ack highest outbound sequence number received by the server
+     * @return frames to replay
+     */
+    public synchronized List<String> framesAfter(long ack) {
+        acknowledge(ack);
+        final List<String> frames = new ArrayList<>(replayBuffer.size());
+        for (Frame frame : replayBuffer) {
+            frames.add(frame.payload);
+        }
+        return frames;
+    }
+
+    /**
+     * Checks whether a gap exists between the server ack and the oldest frame still buffered.
+     *
+     * @param ack highest outbound sequence number received by the server
+     * @return {@code true} if some unacknowledged frames were evicted and cannot be replayed
+     */
+    public synchronized boolean hasGap(long ack) {
+        final Frame first = replayBuffer.peekFirst();
+        final long oldest = first != null ? first.seq : outboundSeq + 1;
+        return oldest > ack + 1;
+    }
+
+    /**
+     * Returns the inbound sequence to acknowledge explicitly, if it advanced since the last ack sent.
+     *
+     * @return the sequence to ack, or {@code -1} if nothing new
+     */
+    public synchronized long pendingAck() {
+        if (sessionId == null || lastInboundSeq == lastAckSent) return -1;
+        lastAckSent = lastInboundSeq;
+        return lastInboundSeq;
+    }
+
+    /** @return last inbound sequence number seen */
+    public synchronized long getLastInboundSeq() {
+        return lastInboundSeq;
+    }
+
+    /** @return number of unacknowledged frames kept for replay */
+    public synchronized int getReplayBufferSize() {
+        return replayBuffer.size();
+    }
+
+    /** @return total unacknowledged frames evicted because the replay buffer was full */
+    public synchronized long getReplayDroppedCount() {
+        return replayDropped;
+    }
+
+    /**
+     * Stamped frame kept for replay.
+     */
+    private static final class Frame {
+
+        private final long seq;
+        private final String payload;
+
+        private Frame(long seq, String payload) {
+            this.seq = seq;
+            this.payload = payload;
+        }
+    }
+}